@@ -1,7 +1,25 @@
 package punto1;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
 public class MajorityElement {
 
+    // Tamaño de rango por debajo del cual el modo paralelo deja de dividir y recorre secuencialmente
+    static final int UMBRAL_SECUENCIAL = 1 << 13;
+
+    // Bytes mapeados por segmento al leer archivos (multiplo de 4 y por debajo del limite de 2 GB de un buffer)
+    static final long BYTES_POR_SEGMENTO = 1L << 30;
+
     //Metodo principal para encontrar el elemento mayoritario
     public static int mayorElemento(int[] lista) {
         if (lista == null || lista.length == 0) return -1;
@@ -39,10 +57,196 @@ public class MajorityElement {
         return cnt;
     }
 
+    // Variante paralela: misma semantica que mayorElemento (candidato o -1), pero en O(n)
+    // repartiendo el trabajo en el pool comun de fork-join
+    public static int mayorElementoParalelo(int[] lista) {
+        return mayorElementoParalelo(lista, UMBRAL_SECUENCIAL);
+    }
+
+    public static int mayorElementoParalelo(int[] lista, int umbral) {
+        if (lista == null || lista.length == 0) return -1;
+        if (umbral < 1) throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        // Rangos pequeños: no compensa crear tareas
+        if (lista.length <= umbral) return mayorElemento(lista);
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        Resumen resumen = pool.invoke(new TareaCandidato(lista, 0, lista.length - 1, umbral));
+        if (resumen.cantidad == 0) return -1;
+        // Unica pasada de verificacion, tambien repartida en trozos
+        long cantidad = pool.invoke(new TareaConteo(lista, resumen.candidato, 0, lista.length - 1, umbral));
+        return (cantidad > lista.length / 2) ? resumen.candidato : -1;
+    }
+
+    // Resumen combinable de un rango al estilo Boyer-Moore: candidato y su "saldo" de votos
+    static final class Resumen {
+        final int candidato;
+        final long cantidad;
+
+        Resumen(int candidato, long cantidad) {
+            this.candidato = candidato;
+            this.cantidad = cantidad;
+        }
+
+        // Combina dos resumenes: los votos de candidatos distintos se cancelan entre si
+        Resumen combinar(Resumen otro) {
+            if (cantidad == 0) return otro;
+            if (otro.cantidad == 0) return this;
+            if (candidato == otro.candidato) return new Resumen(candidato, cantidad + otro.cantidad);
+            if (cantidad >= otro.cantidad) return new Resumen(candidato, cantidad - otro.cantidad);
+            return new Resumen(otro.candidato, otro.cantidad - cantidad);
+        }
+    }
+
+    // Boyer-Moore secuencial sobre lista[inicio..fin]
+    static Resumen votarEnRango(int[] lista, int inicio, int fin) {
+        int candidato = 0;
+        int cantidad = 0;
+        for (int i = inicio; i <= fin; i++) {
+            if (cantidad == 0) {
+                candidato = lista[i];
+                cantidad = 1;
+            } else if (lista[i] == candidato) {
+                cantidad++;
+            } else {
+                cantidad--;
+            }
+        }
+        return new Resumen(candidato, cantidad);
+    }
+
+    // Tarea que obtiene el resumen de votos de lista[inicio..fin]
+    static final class TareaCandidato extends RecursiveTask<Resumen> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] lista;
+        private final int inicio, fin, umbral;
+
+        TareaCandidato(int[] lista, int inicio, int fin, int umbral) {
+            this.lista = lista;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected Resumen compute() {
+            if (fin - inicio + 1 <= umbral) return votarEnRango(lista, inicio, fin);
+            int mitad = inicio + (fin - inicio) / 2;
+            TareaCandidato izquierda = new TareaCandidato(lista, inicio, mitad, umbral);
+            izquierda.fork();
+            Resumen derecha = new TareaCandidato(lista, mitad + 1, fin, umbral).compute();
+            return izquierda.join().combinar(derecha);
+        }
+    }
+
+    // Tarea que cuenta las apariciones de val en lista[inicio..fin]
+    static final class TareaConteo extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] lista;
+        private final int val, inicio, fin, umbral;
+
+        TareaConteo(int[] lista, int val, int inicio, int fin, int umbral) {
+            this.lista = lista;
+            this.val = val;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected Long compute() {
+            if (fin - inicio + 1 <= umbral) return (long) contarEnRango(lista, val, inicio, fin);
+            int mitad = inicio + (fin - inicio) / 2;
+            TareaConteo izquierda = new TareaConteo(lista, val, inicio, mitad, umbral);
+            izquierda.fork();
+            long derecha = new TareaConteo(lista, val, mitad + 1, fin, umbral).compute();
+            return izquierda.join() + derecha;
+        }
+    }
+
+    // Variante sobre archivo binario de int32 little-endian, sin cargarlo en un int[].
+    // El archivo se mapea por segmentos, asi que el heap usado es constante.
+    public static int mayorElementoArchivo(Path archivo) throws IOException {
+        return mayorElementoArchivo(archivo, false);
+    }
+
+    public static int mayorElementoArchivo(Path archivo, boolean paralelo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long bytes = canal.size();
+            if (bytes % Integer.BYTES != 0)
+                throw new IllegalArgumentException("El tamaño del archivo no es multiplo de 4 bytes: " + bytes);
+            long n = bytes / Integer.BYTES;
+            if (n == 0) return -1;
+            int segmentos = (int) ((bytes + BYTES_POR_SEGMENTO - 1) / BYTES_POR_SEGMENTO);
+
+            // Primera pasada: resumen Boyer-Moore de cada segmento, combinados al final
+            IntStream indices = IntStream.range(0, segmentos);
+            if (paralelo) indices = indices.parallel();
+            Resumen resumen = indices
+                    .mapToObj(s -> votarEnBuffer(mapearSegmento(canal, s, bytes)))
+                    .reduce(new Resumen(0, 0), Resumen::combinar);
+            if (resumen.cantidad == 0) return -1;
+
+            // Segunda pasada: conteo exacto del candidato
+            indices = IntStream.range(0, segmentos);
+            if (paralelo) indices = indices.parallel();
+            long cantidad = indices
+                    .mapToLong(s -> contarEnBuffer(mapearSegmento(canal, s, bytes), resumen.candidato))
+                    .sum();
+            return (cantidad > n / 2) ? resumen.candidato : -1;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Vista int32 little-endian del segmento s del archivo (lectura sin copia)
+    private static IntBuffer mapearSegmento(FileChannel canal, int s, long bytes) {
+        long inicio = s * BYTES_POR_SEGMENTO;
+        long largo = Math.min(BYTES_POR_SEGMENTO, bytes - inicio);
+        try {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, inicio, largo);
+            return mapa.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Boyer-Moore secuencial sobre todo el buffer
+    private static Resumen votarEnBuffer(IntBuffer buffer) {
+        int candidato = 0;
+        int cantidad = 0;
+        for (int i = 0, n = buffer.limit(); i < n; i++) {
+            int val = buffer.get(i);
+            if (cantidad == 0) {
+                candidato = val;
+                cantidad = 1;
+            } else if (val == candidato) {
+                cantidad++;
+            } else {
+                cantidad--;
+            }
+        }
+        return new Resumen(candidato, cantidad);
+    }
+
+    // Cuenta apariciones de val en todo el buffer
+    private static long contarEnBuffer(IntBuffer buffer, int val) {
+        long cnt = 0;
+        for (int i = 0, n = buffer.limit(); i < n; i++) {
+            if (buffer.get(i) == val) {
+                cnt++;
+            }
+        }
+        return cnt;
+    }
+
     public static void main(String[] args) {
         int[] arr = {2, 2, 1, 1, 1, 2, 2};
         System.out.println(mayorElemento(arr)); // imprime 2
         int[] arr2 = {1,2,3,4};
         System.out.println(mayorElemento(arr2)); // imprime -1
+        System.out.println(mayorElementoParalelo(arr, 2)); // imprime 2
+        System.out.println(mayorElementoParalelo(arr2, 2)); // imprime -1
     }
 }
@@ -0,0 +1,163 @@
+package punto1;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Acumulador en flujo (Misra-Gries) que generaliza MajorityElement a entradas
+ * que no caben en memoria o que llegan con el tiempo.
+ *
+ * Mantiene como maximo k-1 contadores, por lo que el estado es O(k) sin
+ * importar cuantos valores se procesen. Todo elemento que aparece mas de n/k
+ * veces queda garantizado entre los candidatos (k = 2 es el mayoritario de
+ * mayorElemento). Los candidatos pueden incluir falsos positivos; una segunda
+ * pasada sobre una fuente repetible (frecuentes) da la respuesta exacta.
+ *
+ * Una instancia no es segura entre hilos: cada hilo o particion usa su propio
+ * acumulador y al final se combinan con combinar().
+ */
+public class MajorityElementStream {
+
+    private final int k;
+    // Contadores en arreglos primitivos paralelos; solo las primeras 'usados' posiciones son validas
+    private final int[] claves;
+    private final long[] cuentas;
+    private int usados;
+    private long total;
+
+    public MajorityElementStream(int k) {
+        if (k < 2) throw new IllegalArgumentException("k debe ser al menos 2: " + k);
+        this.k = k;
+        this.claves = new int[k - 1];
+        this.cuentas = new long[k - 1];
+    }
+
+    // Procesa un valor del flujo
+    public void agregar(int val) {
+        total++;
+        for (int i = 0; i < usados; i++) {
+            if (claves[i] == val) {
+                cuentas[i]++;
+                return;
+            }
+        }
+        if (usados < claves.length) {
+            claves[usados] = val;
+            cuentas[usados++] = 1;
+            return;
+        }
+        // Sin espacio: se descuenta uno a todos (el valor nuevo tambien se cancela)
+        decrementar(1);
+    }
+
+    // Procesa los valores restantes del buffer (position..limit) y lo deja consumido
+    public void agregar(IntBuffer lote) {
+        while (lote.hasRemaining()) {
+            agregar(lote.get());
+        }
+    }
+
+    // Combina otro acumulador con el mismo k dentro de este
+    public void combinar(MajorityElementStream otro) {
+        if (otro.k != k) throw new IllegalArgumentException("Los acumuladores tienen k distintos: " + k + " y " + otro.k);
+        int[] clavesJuntas = Arrays.copyOf(claves, usados + otro.usados);
+        long[] cuentasJuntas = Arrays.copyOf(cuentas, usados + otro.usados);
+        int n = usados;
+        for (int j = 0; j < otro.usados; j++) {
+            int i = 0;
+            while (i < n && clavesJuntas[i] != otro.claves[j]) i++;
+            if (i < n) {
+                cuentasJuntas[i] += otro.cuentas[j];
+            } else {
+                clavesJuntas[n] = otro.claves[j];
+                cuentasJuntas[n++] = otro.cuentas[j];
+            }
+        }
+
+        // Si sobran contadores se resta la k-esima mayor cuenta y se descartan los que quedan en cero
+        long descuento = 0;
+        if (n > claves.length) {
+            long[] ordenadas = Arrays.copyOf(cuentasJuntas, n);
+            Arrays.sort(ordenadas);
+            descuento = ordenadas[n - k];
+        }
+        usados = 0;
+        for (int i = 0; i < n; i++) {
+            if (cuentasJuntas[i] > descuento && usados < claves.length) {
+                claves[usados] = clavesJuntas[i];
+                cuentas[usados++] = cuentasJuntas[i] - descuento;
+            }
+        }
+        total += otro.total;
+    }
+
+    // Candidatos a aparecer mas de n/k veces (superconjunto de la respuesta exacta)
+    public int[] candidatos() {
+        return Arrays.copyOf(claves, usados);
+    }
+
+    // Cantidad de valores procesados hasta ahora
+    public long total() {
+        return total;
+    }
+
+    /**
+     * Segunda pasada exacta: recorre de nuevo la fuente y devuelve los candidatos
+     * que realmente aparecen mas de n/k veces. La fuente debe producir los mismos
+     * valores que se acumularon; se recorre con duplicados de cada buffer para
+     * no alterar su posicion.
+     */
+    public int[] frecuentes(Iterable<IntBuffer> fuente) {
+        long[] exactas = new long[usados];
+        long n = 0;
+        for (IntBuffer lote : fuente) {
+            IntBuffer vista = lote.duplicate();
+            while (vista.hasRemaining()) {
+                int val = vista.get();
+                n++;
+                for (int i = 0; i < usados; i++) {
+                    if (claves[i] == val) {
+                        exactas[i]++;
+                        break;
+                    }
+                }
+            }
+        }
+        int[] res = new int[usados];
+        int cnt = 0;
+        for (int i = 0; i < usados; i++) {
+            if (exactas[i] > n / k) res[cnt++] = claves[i];
+        }
+        return Arrays.copyOf(res, cnt);
+    }
+
+    // Resta d a todos los contadores y compacta los que quedan en cero
+    private void decrementar(long d) {
+        int j = 0;
+        for (int i = 0; i < usados; i++) {
+            long c = cuentas[i] - d;
+            if (c > 0) {
+                claves[j] = claves[i];
+                cuentas[j++] = c;
+            }
+        }
+        usados = j;
+    }
+
+    public static void main(String[] args) {
+        int[] arr = {2, 2, 1, 1, 1, 2, 2};
+        MajorityElementStream mayoritario = new MajorityElementStream(2);
+        mayoritario.agregar(IntBuffer.wrap(arr));
+        System.out.println(Arrays.toString(mayoritario.frecuentes(Arrays.asList(IntBuffer.wrap(arr))))); // imprime [2]
+
+        // Dos particiones procesadas por separado y combinadas, k = 3
+        int[] parte1 = {1, 1, 2, 3, 1};
+        int[] parte2 = {4, 2, 2, 5, 1};
+        MajorityElementStream a = new MajorityElementStream(3);
+        MajorityElementStream b = new MajorityElementStream(3);
+        a.agregar(IntBuffer.wrap(parte1));
+        b.agregar(IntBuffer.wrap(parte2));
+        a.combinar(b);
+        System.out.println(Arrays.toString(a.frecuentes(Arrays.asList(IntBuffer.wrap(parte1), IntBuffer.wrap(parte2))))); // imprime [1]
+    }
+}
@@ -1,100 +1,355 @@
 package punto1;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class SmallerElementsCount {
-    class Item {
 
-        int val;
-        int index;
+    // Below this size merge sort beats building
+    // the Fenwick tree and compressing values
+    static final int SMALL_INPUT = 1 << 12;
 
-        public Item(int val, int index)
-        {
-            this.val = val;
-            this.index = index;
-        }
-    }
+    // Value ranges up to this many times the input
+    // size are indexed directly, without compression
+    static final int DIRECT_RANGE_FACTOR = 4;
+
+    // Parallel mode: ranges up to this size are
+    // sorted sequentially inside a single task
+    static final int PARALLEL_CUTOFF = 1 << 13;
+
+    // Parallel mode: merges at least this large are
+    // split into independent partitions by co-rank
+    static final int PARALLEL_MERGE = 1 << 16;
 
     // Function to count the number of
     // smaller elements on right side
     public ArrayList<Integer> countSmall(int[] A)
     {
+        int[] count = countSmaller(A);
+        ArrayList<Integer> res = new ArrayList<>(count.length);
+
+        for (int i : count) {
+            res.add(i);
+        }
+        return res;
+    }
 
+    // Same as countSmall but returns a primitive array,
+    // picking the backend from input size and value range
+    public int[] countSmaller(int[] A)
+    {
         int len = A.length;
-        Item[] items = new Item[len];
+        if (len < SMALL_INPUT) {
+            return countSmallerMergeSort(A);
+        }
+
+        int min = A[0], max = A[0];
+        for (int v : A) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        long range = (long) max - min + 1;
+        if (range <= (long) DIRECT_RANGE_FACTOR * len) {
+            return countSmallerDirect(A, min, (int) range);
+        }
+        return countSmallerFenwick(A);
+    }
+
+    // Merge sort backend without per-element objects:
+    // sorts a permutation of indices with a single scratch
+    // buffer and returns the counts as a primitive array
+    public int[] countSmallerMergeSort(int[] A)
+    {
+        int len = A.length;
+        int[] idx = new int[len];
 
         for (int i = 0; i < len; i++) {
-            items[i] = new Item(A[i], i);
+            idx[i] = i;
         }
 
         int[] count = new int[len];
-        mergeSort(items, 0, len - 1, count);
-        ArrayList<Integer> res = new ArrayList<>();
+        mergeSort(A, idx, new int[len], 0, len - 1, count);
+        return count;
+    }
 
-        for (int i : count) {
-            res.add(i);
-        }
-        return res;
+    // Parallel merge sort backend on the common pool
+    public int[] countSmallerParallel(int[] A)
+    {
+        return countSmallerParallel(A, ForkJoinPool.commonPool());
     }
 
-    // Function for Merge Sort
-    private void mergeSort(Item[] items,
-                           int low, int high,
-                           int[] count)
+    // Parallel merge sort backend: halves are forked as
+    // RecursiveActions down to PARALLEL_CUTOFF, and large
+    // merges are split by co-rank into partitions that
+    // update disjoint entries of count[]
+    public int[] countSmallerParallel(int[] A, ForkJoinPool pool)
     {
+        int len = A.length;
+        int[] idx = new int[len];
 
-        if (low >= high) {
-            return;
+        for (int i = 0; i < len; i++) {
+            idx[i] = i;
         }
 
-        int mid = low + (high - low) / 2;
-        mergeSort(items, low, mid, count);
-        mergeSort(items, mid + 1, high, count);
-        merge(items, low, mid, mid + 1, high, count);
+        int[] count = new int[len];
+        if (len > 1) {
+            pool.invoke(new SortTask(A, idx, new int[len], 0, len - 1,
+                                     count, pool.getParallelism()));
+        }
+        return count;
+    }
+
+    // Bottom-up Merge Sort over idx[from..to],
+    // iterative so deep inputs cannot overflow the stack
+    private void mergeSort(int[] A, int[] idx, int[] tmp,
+                           int from, int to, int[] count)
+    {
+        long len = (long) to - from + 1;
+        for (long width = 1; width < len; width *= 2) {
+            for (long low = 0; low + width < len; low += 2 * width) {
+                long high = Math.min(low + 2 * width, len) - 1;
+                merge(A, idx, tmp, (int) (from + low),
+                      (int) (from + low + width - 1),
+                      (int) (from + high), count);
+            }
+        }
     }
 
-    // Utility function that merge the array
-    // and count smaller element on right side
-    private void merge(Item[] items, int low,
-                       int lowEnd, int high,
-                       int highEnd, int[] count)
+    // Utility function that merge idx[low..mid] with
+    // idx[mid+1..high] and count smaller element on right side
+    private void merge(int[] A, int[] idx, int[] tmp,
+                       int low, int mid, int high,
+                       int[] count)
     {
-        int m = highEnd - low + 1;
-        Item[] sorted = new Item[m];
         int rightCounter = 0;
-        int lowPtr = low, highPtr = high;
-        int index = 0;
+        int lowPtr = low, highPtr = mid + 1;
+        int index = low;
 
         // Loop to store the count of smaller
         // Elements on right side when both
         // Array have some elements
-        while (lowPtr <= lowEnd && highPtr <= highEnd) {
-            if (items[lowPtr].val > items[highPtr].val) {
+        while (lowPtr <= mid && highPtr <= high) {
+            if (A[idx[lowPtr]] > A[idx[highPtr]]) {
                 rightCounter++;
-                sorted[index++] = items[highPtr++];
+                tmp[index++] = idx[highPtr++];
             }
             else {
-                count[items[lowPtr].index] += rightCounter;
-                sorted[index++] = items[lowPtr++];
+                count[idx[lowPtr]] += rightCounter;
+                tmp[index++] = idx[lowPtr++];
             }
         }
 
         // Loop to store the count of smaller
         // elements in right side when only
         // left array have some element
-        while (lowPtr <= lowEnd) {
-            count[items[lowPtr].index] += rightCounter;
-            sorted[index++] = items[lowPtr++];
+        while (lowPtr <= mid) {
+            count[idx[lowPtr]] += rightCounter;
+            tmp[index++] = idx[lowPtr++];
         }
 
         // Loop to store the count of smaller
         // elements in right side when only
         // right array have some element
-        while (highPtr <= highEnd) {
-            sorted[index++] = items[highPtr++];
+        while (highPtr <= high) {
+            tmp[index++] = idx[highPtr++];
+        }
+
+        System.arraycopy(tmp, low, idx, low, high - low + 1);
+    }
+
+    // Task that sorts idx[low..high] and counts
+    // smaller elements on right side within it
+    class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        final int[] A, idx, tmp, count;
+        final int low, high;
+
+        // Taken from the pool when the root task is created:
+        // on the common pool the root runs on the caller
+        // thread, where getPool() returns null
+        final int parallelism;
+
+        SortTask(int[] A, int[] idx, int[] tmp,
+                 int low, int high, int[] count, int parallelism)
+        {
+            this.A = A;
+            this.idx = idx;
+            this.tmp = tmp;
+            this.low = low;
+            this.high = high;
+            this.count = count;
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (high - low + 1 <= PARALLEL_CUTOFF) {
+                mergeSort(A, idx, tmp, low, high, count);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+            invokeAll(new SortTask(A, idx, tmp, low, mid, count, parallelism),
+                      new SortTask(A, idx, tmp, mid + 1, high, count, parallelism));
+
+            int m = high - low + 1;
+            if (m < PARALLEL_MERGE) {
+                merge(A, idx, tmp, low, mid, high, count);
+                return;
+            }
+
+            // Every partition writes its own slice of tmp
+            // and owns the count[] entries of its left items
+            int parts = Math.max(2, Math.min(parallelism * 4,
+                                             m / (PARALLEL_MERGE / 4)));
+            MergeTask[] tasks = new MergeTask[parts];
+            for (int p = 0; p < parts; p++) {
+                int first = (int) ((long) m * p / parts);
+                int last = (int) ((long) m * (p + 1) / parts);
+                tasks[p] = new MergeTask(A, idx, tmp, low, mid, high,
+                                         first, last, count);
+            }
+            invokeAll(tasks);
+            System.arraycopy(tmp, low, idx, low, m);
+        }
+    }
+
+    // Task that writes outputs [first, last) of the merge
+    // of idx[low..mid] and idx[mid+1..high] into tmp
+    class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        final int[] A, idx, tmp, count;
+        final int low, mid, high, first, last;
+
+        MergeTask(int[] A, int[] idx, int[] tmp, int low, int mid,
+                  int high, int first, int last, int[] count)
+        {
+            this.A = A;
+            this.idx = idx;
+            this.tmp = tmp;
+            this.low = low;
+            this.mid = mid;
+            this.high = high;
+            this.first = first;
+            this.last = last;
+            this.count = count;
+        }
+
+        @Override
+        protected void compute()
+        {
+            int lowPtr = low + coRank(A, idx, low, mid, high, first);
+            int highPtr = mid + 1 + first - (lowPtr - low);
+
+            // Right items already placed before this
+            // partition are all smaller than what follows
+            int rightCounter = highPtr - (mid + 1);
+            int index = low + first;
+            int end = low + last;
+
+            while (index < end) {
+                if (highPtr > high || (lowPtr <= mid
+                        && A[idx[lowPtr]] <= A[idx[highPtr]])) {
+                    count[idx[lowPtr]] += rightCounter;
+                    tmp[index++] = idx[lowPtr++];
+                }
+                else {
+                    rightCounter++;
+                    tmp[index++] = idx[highPtr++];
+                }
+            }
+        }
+    }
+
+    // Number of left items among the first k outputs
+    // of the stable merge (left wins on equal values)
+    private static int coRank(int[] A, int[] idx, int low,
+                              int mid, int high, int k)
+    {
+        int leftLen = mid - low + 1, rightLen = high - mid;
+        int lo = Math.max(0, k - rightLen), hi = Math.min(k, leftLen);
+
+        while (true) {
+            int i = (lo + hi) >>> 1;
+            int j = k - i;
+            if (i < leftLen && j > 0
+                    && A[idx[mid + j]] >= A[idx[low + i]]) {
+                lo = i + 1;
+            }
+            else if (i > 0 && j < rightLen
+                    && A[idx[low + i - 1]] > A[idx[mid + 1 + j]]) {
+                hi = i - 1;
+            }
+            else {
+                return i;
+            }
+        }
+    }
+
+    // Fenwick tree backend: compress values to ranks
+    // 1..u and sweep right to left, querying how many
+    // strictly smaller ranks have already been seen
+    public int[] countSmallerFenwick(int[] A)
+    {
+        int len = A.length;
+        int[] sorted = A.clone();
+        Arrays.sort(sorted);
+
+        // Keep unique values only
+        int u = 0;
+        for (int i = 0; i < len; i++) {
+            if (u == 0 || sorted[u - 1] != sorted[i]) {
+                sorted[u++] = sorted[i];
+            }
         }
 
-        System.arraycopy(sorted, 0, items, low, m);
+        // Ranks computed up front so the sweep
+        // only touches primitive arrays
+        int[] rank = new int[len];
+        for (int i = 0; i < len; i++) {
+            rank[i] = Arrays.binarySearch(sorted, 0, u, A[i]) + 1;
+        }
+        return sweep(rank, u);
+    }
+
+    // Fenwick tree backend for small value ranges:
+    // values are indexed directly as A[i] - min + 1
+    private int[] countSmallerDirect(int[] A, int min, int range)
+    {
+        int len = A.length;
+        int[] rank = new int[len];
+        for (int i = 0; i < len; i++) {
+            rank[i] = A[i] - min + 1;
+        }
+        return sweep(rank, range);
+    }
+
+    // Right to left sweep over ranks in 1..size with a
+    // Binary Indexed Tree; equal ranks are not counted
+    private int[] sweep(int[] rank, int size)
+    {
+        int len = rank.length;
+        int[] tree = new int[size + 1];
+        int[] count = new int[len];
+
+        for (int i = len - 1; i >= 0; i--) {
+            int smaller = 0;
+            for (int k = rank[i] - 1; k > 0; k -= k & -k) {
+                smaller += tree[k];
+            }
+            count[i] = smaller;
+            for (int k = rank[i]; k <= size; k += k & -k) {
+                tree[k]++;
+            }
+        }
+        return count;
     }
 
     // Utility function that prints
@@ -117,5 +372,36 @@ public class SmallerElementsCount {
         ArrayList<Integer> countList
             = cntSmall.countSmall(arr);
         cntSmall.printArray(countList);
+
+        // Optional scaling run: java punto1.SmallerElementsCount <n>
+        if (args.length > 0) {
+            cntSmall.scalingBenchmark(Integer.parseInt(args[0]));
+        }
+    }
+
+    // Times the parallel mode with 1 to 32 worker threads
+    // on n random values and checks it against countSmaller
+    void scalingBenchmark(int n)
+    {
+        int[] A = new java.util.Random(42).ints(n).toArray();
+        int[] expected = countSmaller(A);
+
+        // The common-pool entry point runs its root task on
+        // the caller thread rather than on a pool worker
+        System.out.println("common pool: "
+                           + (Arrays.equals(countSmallerParallel(A), expected)
+                              ? "OK" : "MISMATCH"));
+
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            countSmallerParallel(A, pool); // warm-up
+            long start = System.nanoTime();
+            int[] count = countSmallerParallel(A, pool);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            pool.shutdown();
+
+            System.out.println(threads + " threads: " + millis + " ms"
+                               + (Arrays.equals(count, expected) ? "" : " MISMATCH"));
+        }
     }
 }
\ No newline at end of file
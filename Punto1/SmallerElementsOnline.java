@@ -0,0 +1,249 @@
+package punto1;
+
+import java.util.Arrays;
+
+// Online version of SmallerElementsCount: values are
+// appended at the tail and "how many later values are
+// smaller than element i" is answered on demand, with
+// the same strictly-smaller semantics as countSmall.
+//
+// Each append stores a new version of a persistent
+// binary trie over the 32 bits of the value (path
+// copying), so version t holds the multiset of the
+// first t values. The number of values smaller than x
+// in positions [from, to) is the difference between
+// versions to and from, found in one walk of 32 levels.
+// Appends and queries are O(32), with no recomputation.
+//
+// Memory: each version adds 33 nodes of three ints,
+// about 400 bytes per value. Without a window every
+// version is kept, up to about 65M values (the node
+// arrays are limited to 2^31 entries), after which
+// append throws IllegalStateException. For a live
+// series, construct with maxWindow: once 2 * maxWindow
+// versions are stored, the trie is rebuilt from the
+// last maxWindow values (amortized O(33) per append),
+// so memory stays at about 800 bytes * maxWindow.
+// Positions keep counting from 0, but only positions
+// from oldest() on can be queried.
+public class SmallerElementsOnline {
+
+    // Nodes per append: one per bit plus the leaf
+    private static final int NODES_PER_VALUE = 33;
+
+    // Largest array length the JVM reliably allocates
+    private static final int MAX_NODES = Integer.MAX_VALUE - 8;
+
+    // Node 0 is the shared empty node
+    private int[] left = new int[NODES_PER_VALUE * 16];
+    private int[] right = new int[NODES_PER_VALUE * 16];
+    private int[] cnt = new int[NODES_PER_VALUE * 16];
+    private int nodes = 1;
+
+    // roots[t] is the trie of the first t retained
+    // values; values[t] is position base + t
+    private int[] roots = new int[17];
+    private int[] values = new int[16];
+    private int base;
+    private int size;
+
+    // Largest window that stays queryable
+    private final int maxWindow;
+
+    // Keeps every version (unbounded memory)
+    public SmallerElementsOnline()
+    {
+        this.maxWindow = Integer.MAX_VALUE;
+    }
+
+    // Keeps only what the last maxWindow values need;
+    // older positions are dropped
+    public SmallerElementsOnline(int maxWindow)
+    {
+        if (maxWindow < 1) {
+            throw new IllegalArgumentException("Window must be positive: " + maxWindow);
+        }
+        this.maxWindow = maxWindow;
+    }
+
+    // Appends a value at the tail of the series
+    public void append(int v)
+    {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Series full: " + size + " values");
+        }
+        if (maxWindow != Integer.MAX_VALUE && size - base >= 2L * maxWindow) {
+            compact();
+        }
+        insert(size - base, v);
+        size++;
+    }
+
+    // Rebuilds the trie from the last maxWindow values
+    private void compact()
+    {
+        int[] kept = Arrays.copyOfRange(values, size - base - maxWindow, size - base);
+        base = size - maxWindow;
+        // Node 0 is never written, so the arrays are reused
+        nodes = 1;
+        for (int t = 0; t < kept.length; t++) {
+            insert(t, kept[t]);
+        }
+    }
+
+    // Stores version t + 1: version t plus v
+    private void insert(int t, int v)
+    {
+        if (t == values.length) {
+            values = Arrays.copyOf(values, t * 2);
+            roots = Arrays.copyOf(roots, t * 2 + 1);
+        }
+        long needed = (long) nodes + NODES_PER_VALUE;
+        if (needed > cnt.length) {
+            if (needed > MAX_NODES) {
+                throw new IllegalStateException(
+                    "Trie full after " + size + " values; use a maxWindow");
+            }
+            int capacity = (int) Math.min(MAX_NODES, Math.max(needed, 2L * cnt.length));
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            cnt = Arrays.copyOf(cnt, capacity);
+        }
+
+        // Flip the sign bit so unsigned bit order
+        // matches signed int order
+        int key = v ^ Integer.MIN_VALUE;
+        int prev = roots[t];
+        int cur = nodes++;
+        roots[t + 1] = cur;
+
+        for (int bit = 31; bit >= 0; bit--) {
+            cnt[cur] = cnt[prev] + 1;
+            int child = nodes++;
+            if (((key >>> bit) & 1) == 0) {
+                left[cur] = child;
+                right[cur] = right[prev];
+                prev = left[prev];
+            }
+            else {
+                left[cur] = left[prev];
+                right[cur] = child;
+                prev = right[prev];
+            }
+            cur = child;
+        }
+        cnt[cur] = cnt[prev] + 1;
+
+        values[t] = v;
+    }
+
+    // Number of values appended so far
+    public int size()
+    {
+        return size;
+    }
+
+    // First position that can still be queried
+    // (0 unless a maxWindow dropped older ones)
+    public int oldest()
+    {
+        return base;
+    }
+
+    // Value at position i
+    public int get(int i)
+    {
+        checkIndex(i);
+        return values[i - base];
+    }
+
+    // Number of values after position i that are
+    // smaller than the value at i
+    public int countSmallerAfter(int i)
+    {
+        checkIndex(i);
+        return countSmaller(i + 1, size, values[i - base]);
+    }
+
+    // Same as countSmallerAfter, but only values among
+    // the last window appended ones are counted
+    public int countSmallerAfter(int i, int window)
+    {
+        checkIndex(i);
+        if (window < 0) {
+            throw new IllegalArgumentException("Negative window: " + window);
+        }
+        int from = Math.max(i + 1, size - Math.min(window, size));
+        return countSmaller(from, size, values[i - base]);
+    }
+
+    // Number of positions j in [from, to)
+    // with a value strictly smaller than x
+    public int countSmaller(int from, int to, int x)
+    {
+        if (from < base || to > size || from > to) {
+            throw new IndexOutOfBoundsException(
+                "Range [" + from + ", " + to + ") out of [" + base + ", " + size + ")");
+        }
+        int key = x ^ Integer.MIN_VALUE;
+        int a = roots[from - base], b = roots[to - base];
+        int res = 0;
+
+        for (int bit = 31; bit >= 0 && b != 0; bit--) {
+            if (((key >>> bit) & 1) == 1) {
+                // Everything under the 0 branch is smaller
+                res += cnt[left[b]] - cnt[left[a]];
+                a = right[a];
+                b = right[b];
+            }
+            else {
+                a = left[a];
+                b = left[b];
+            }
+        }
+        return res;
+    }
+
+    // Counts for positions oldest() .. size() - 1,
+    // equal to countSmaller over a snapshot of them
+    public int[] countSmall()
+    {
+        int[] count = new int[size - base];
+        for (int i = base; i < size; i++) {
+            count[i - base] = countSmaller(i + 1, size, values[i - base]);
+        }
+        return count;
+    }
+
+    private void checkIndex(int i)
+    {
+        if (i < base || i >= size) {
+            throw new IndexOutOfBoundsException(
+                "Index " + i + " out of [" + base + ", " + size + ")");
+        }
+    }
+
+    // Driver Code
+    public static void main(String[] args)
+    {
+        SmallerElementsOnline series = new SmallerElementsOnline();
+        int arr[] = { 10, 9, 5, 2, 7, 6, 11, 0, 2 };
+
+        for (int v : arr) {
+            series.append(v);
+        }
+        System.out.println(Arrays.toString(series.countSmall()));
+
+        // A new value changes earlier answers without recomputing
+        series.append(1);
+        System.out.println(series.countSmallerAfter(0));
+        System.out.println(series.countSmallerAfter(0, 3));
+
+        // Live series: memory stays bounded by the window
+        SmallerElementsOnline live = new SmallerElementsOnline(4);
+        for (int v : arr) {
+            live.append(v);
+        }
+        System.out.println(live.oldest() + " " + Arrays.toString(live.countSmall()));
+    }
+}
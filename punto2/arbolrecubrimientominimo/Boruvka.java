@@ -0,0 +1,107 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+// Arbol (o bosque) de recubrimiento minimo con Boruvka paralelo.
+// En cada ronda todas las componentes eligen a la vez su arista mas liviana hacia
+// otra componente, se contraen con pointer jumping y se descartan las aristas
+// internas; todas las fases recorren aristas o vertices con streams paralelos.
+// Los empates se rompen por indice de arista, asi que el resultado es el mismo
+// conjunto de aristas que Kruskal.kruskalsMST(int, EdgeList).
+public class Boruvka {
+
+    public static MSTResult boruvkaMST(int V, int[][] edges) {
+        return boruvkaMST(V, EdgeList.of(edges));
+    }
+
+    public static MSTResult boruvkaMST(int V, EdgeList edges) {
+        // comp[x] es el representante de la componente del vertice x
+        int[] comp = IntStream.range(0, V).toArray();
+        int[] parent = new int[V];
+        AtomicIntegerArray best = new AtomicIntegerArray(V);
+        boolean[] inTree = new boolean[edges.size()];
+
+        // Aristas que todavia unen componentes distintas (sin lazos)
+        int[] alive = IntStream.range(0, edges.size()).parallel()
+                .filter(e -> edges.from(e) != edges.to(e))
+                .toArray();
+
+        while (alive.length > 0) {
+            IntStream.range(0, V).parallel().forEach(c -> best.set(c, -1));
+
+            // Cada componente se queda con su arista mas liviana
+            int[] current = alive;
+            IntStream.range(0, current.length).parallel().forEach(i -> {
+                int e = current[i];
+                offer(best, comp[edges.from(e)], e, edges);
+                offer(best, comp[edges.to(e)], e, edges);
+            });
+
+            // Enganche: la componente c apunta a la del otro extremo de su arista.
+            // El unico ciclo posible es de dos componentes que eligieron la misma
+            // arista; en ese caso la de menor indice queda como raiz
+            int hooks = IntStream.range(0, V).parallel().map(c -> {
+                parent[c] = comp[c];
+                if (comp[c] != c || best.get(c) == -1) return 0;
+                int e = best.get(c);
+                int other = comp[edges.from(e)] == c ? comp[edges.to(e)] : comp[edges.from(e)];
+                if (best.get(other) == e && c < other) return 0;
+                parent[c] = other;
+                inTree[e] = true;
+                return 1;
+            }).sum();
+            if (hooks == 0) break;
+
+            // Pointer jumping hasta que cada representante apunte a una raiz
+            boolean changed = true;
+            while (changed) {
+                changed = IntStream.range(0, V).parallel().map(c -> {
+                    int p = parent[c], gp = parent[p];
+                    if (p == gp) return 0;
+                    parent[c] = gp;
+                    return 1;
+                }).sum() > 0;
+            }
+            IntStream.range(0, V).parallel().forEach(x -> comp[x] = parent[comp[x]]);
+
+            // Las aristas internas a una componente ya no sirven
+            alive = Arrays.stream(alive).parallel()
+                    .filter(e -> comp[edges.from(e)] != comp[edges.to(e)])
+                    .toArray();
+        }
+
+        int[] chosen = IntStream.range(0, inTree.length).filter(e -> inTree[e]).toArray();
+        long cost = 0;
+        for (int e : chosen) {
+            cost += edges.weight(e);
+        }
+        return new MSTResult(cost, chosen);
+    }
+
+    // Reemplaza best[c] por e mientras e sea mas liviana, con CAS
+    private static void offer(AtomicIntegerArray best, int c, int e, EdgeList edges) {
+        while (true) {
+            int cur = best.get(c);
+            if (cur != -1 && !lighter(e, cur, edges)) return;
+            if (best.compareAndSet(c, cur, e)) return;
+        }
+    }
+
+    // Orden total: por peso y, en empate, por indice
+    private static boolean lighter(int e, int f, EdgeList edges) {
+        int we = edges.weight(e), wf = edges.weight(f);
+        return we < wf || (we == wf && e < f);
+    }
+
+    public static void main(String[] args) {
+        //Mismo formato que Kruskal: {nodo origen, nodo destino, peso}
+        int[][] edges = {
+                { 0, 1, 10 }, { 1, 3, 15 }, { 2, 3, 4 }, { 2, 0, 6 }, { 0, 3, 5 }
+        };
+
+        MSTResult result = boruvkaMST(4, edges);
+        System.out.println(result.cost() + " " + Arrays.toString(result.edges()));
+    }
+}
@@ -0,0 +1,79 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.nio.IntBuffer;
+
+// Grafo no dirigido en formato CSR (compressed sparse row): las adyacencias de todos
+// los vertices van seguidas en arreglos primitivos y offsets[x]..offsets[x+1] delimita
+// las del vertice x. Cada arista aparece dos veces (una por extremo) y guarda el
+// indice que tenia en la entrada. Se construye una vez y se reutiliza en cada consulta.
+// Los arreglos se ven como IntBuffer para que tambien puedan venir de un archivo mapeado.
+public class CSRGraph {
+    final int V;
+    final IntBuffer offsets;
+    final IntBuffer target;
+    final IntBuffer weight;
+    final IntBuffer edgeId;
+
+    // Aristas en el formato {nodo origen, nodo destino, peso}
+    public CSRGraph(int V, int[][] edges) {
+        this(V, EdgeList.of(edges));
+    }
+
+    public CSRGraph(int V, EdgeList edges) {
+        this(V, (WeightedEdges) edges);
+    }
+
+    CSRGraph(int V, WeightedEdges edges) {
+        this.V = V;
+        int E = edges.size();
+        int[] offsets = new int[V + 1];
+        int[] target = new int[2 * E];
+        int[] weight = new int[2 * E];
+        int[] edgeId = new int[2 * E];
+
+        // Grados, luego sumas prefijas para ubicar cada lista
+        for (int e = 0; e < E; e++) {
+            offsets[edges.from(e) + 1]++;
+            offsets[edges.to(e) + 1]++;
+        }
+        for (int x = 0; x < V; x++) {
+            offsets[x + 1] += offsets[x];
+        }
+
+        int[] next = new int[V];
+        System.arraycopy(offsets, 0, next, 0, V);
+        for (int e = 0; e < E; e++) {
+            int u = edges.from(e), v = edges.to(e), w = edges.weight(e);
+            int i = next[u]++;
+            target[i] = v;
+            weight[i] = w;
+            edgeId[i] = e;
+            i = next[v]++;
+            target[i] = u;
+            weight[i] = w;
+            edgeId[i] = e;
+        }
+
+        this.offsets = IntBuffer.wrap(offsets);
+        this.target = IntBuffer.wrap(target);
+        this.weight = IntBuffer.wrap(weight);
+        this.edgeId = IntBuffer.wrap(edgeId);
+    }
+
+    // Vista sobre arreglos ya armados (por ejemplo, la seccion CSR de un GraphFile)
+    CSRGraph(int V, IntBuffer offsets, IntBuffer target, IntBuffer weight, IntBuffer edgeId) {
+        this.V = V;
+        this.offsets = offsets;
+        this.target = target;
+        this.weight = weight;
+        this.edgeId = edgeId;
+    }
+
+    public int vertexCount() {
+        return V;
+    }
+
+    public int edgeCount() {
+        return target.limit() / 2;
+    }
+}
@@ -0,0 +1,134 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+// Conjuntos disjuntos seguros entre hilos y sin bloqueos (version concurrente de DSU).
+// Los enlaces se hacen con compareAndSet sobre un AtomicIntegerArray y siempre cuelgan
+// la raiz de menor prioridad (prioridades aleatorias fijas) bajo la de mayor, lo que
+// evita ciclos y mantiene los arboles poco profundos. find aplica path halving con CAS:
+// un CAS fallido solo significa que otro hilo ya acorto el camino.
+public class ConcurrentDSU {
+    private final AtomicIntegerArray parent;
+    private final int[] priority;
+    private final LongAdder unions = new LongAdder();
+
+    public ConcurrentDSU(int n) {
+        this(n, new Random().nextLong());
+    }
+
+    public ConcurrentDSU(int n, long seed) {
+        parent = new AtomicIntegerArray(n);
+        priority = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+            priority[i] = i;
+        }
+        // Permutacion aleatoria de prioridades (Fisher-Yates)
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = priority[i];
+            priority[i] = priority[j];
+            priority[j] = t;
+        }
+    }
+
+    public int size() {
+        return parent.length();
+    }
+
+    public int find(int i) {
+        while (true) {
+            int p = parent.get(i);
+            if (p == i) return i;
+            int gp = parent.get(p);
+            if (p != gp) {
+                parent.compareAndSet(i, p, gp);
+            }
+            i = gp;
+        }
+    }
+
+    // Devuelve false si x e y ya estaban en el mismo conjunto
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return false;
+            if (priority[x] > priority[y]) {
+                int t = x;
+                x = y;
+                y = t;
+            }
+            // Falla si x dejo de ser raiz mientras tanto; se reintenta desde las nuevas raices
+            if (parent.compareAndSet(x, x, y)) {
+                unions.increment();
+                return true;
+            }
+        }
+    }
+
+    public boolean sameSet(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return true;
+            // Si x sigue siendo raiz, en este instante estaban separados
+            if (parent.get(x) == x) return false;
+        }
+    }
+
+    // Une us[i] con vs[i] para todo i en paralelo; devuelve cuantas uniones juntaron conjuntos
+    public int unionAll(int[] us, int[] vs) {
+        if (us.length != vs.length)
+            throw new IllegalArgumentException("Arreglos de distinto largo: " + us.length + " y " + vs.length);
+        return IntStream.range(0, us.length).parallel()
+                .map(i -> union(us[i], vs[i]) ? 1 : 0)
+                .sum();
+    }
+
+    // Cantidad de conjuntos; exacta cuando no hay uniones en curso
+    public int componentCount() {
+        return (int) (parent.length() - unions.sum());
+    }
+
+    public static void main(String[] args) {
+        ConcurrentDSU dsu = new ConcurrentDSU(5);
+        dsu.unionAll(new int[] { 0, 1, 3 }, new int[] { 1, 2, 4 });
+        System.out.println(dsu.sameSet(0, 2) + " " + dsu.sameSet(2, 3) + " " + dsu.componentCount()); // true false 2
+
+        // Benchmark opcional de contencion: java punto2.arbolrecubrimientominimo.ConcurrentDSU <n> <uniones>
+        if (args.length > 1) {
+            benchmark(Integer.parseInt(args[0]), Integer.parseInt(args[1]));
+        }
+    }
+
+    // Compara uniones aleatorias con el DSU secuencial y con este en 1 a 32 hilos
+    static void benchmark(int n, int m) {
+        Random random = new Random(42);
+        int[] us = random.ints(m, 0, n).toArray();
+        int[] vs = random.ints(m, 0, n).toArray();
+
+        long start = System.nanoTime();
+        DSU sequential = new DSU(n);
+        int merged = 0;
+        for (int i = 0; i < m; i++) {
+            if (sequential.union(us[i], vs[i])) merged++;
+        }
+        System.out.println("DSU secuencial: " + (System.nanoTime() - start) / 1_000_000 + " ms");
+
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ConcurrentDSU dsu = new ConcurrentDSU(n, 42);
+            start = System.nanoTime();
+            int result = pool.submit(() -> dsu.unionAll(us, vs)).join();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            pool.shutdown();
+            System.out.println(threads + " hilos: " + millis + " ms" + (result == merged ? "" : " DIFERENTE"));
+        }
+    }
+}
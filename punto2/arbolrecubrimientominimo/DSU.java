@@ -0,0 +1,41 @@
+package punto2.arbolrecubrimientominimo;
+
+// Disjoint set data structure
+class DSU {
+    private int[] parent, size;
+
+    public DSU(int n) {
+        parent = new int[n];
+        size = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    // Iterativo con path halving: cada nodo visitado pasa a apuntar a su abuelo
+    public int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // Union por tamaño; devuelve false si x e y ya estaban en el mismo conjunto
+    public boolean union(int x, int y) {
+        int s1 = find(x);
+        int s2 = find(y);
+        if (s1 == s2) {
+            return false;
+        }
+        if (size[s1] < size[s2]) {
+            int t = s1;
+            s1 = s2;
+            s2 = t;
+        }
+        parent[s2] = s1;
+        size[s1] += size[s2];
+        return true;
+    }
+}
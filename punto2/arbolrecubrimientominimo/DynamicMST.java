@@ -0,0 +1,305 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Arrays;
+
+// Arbol (o bosque) de recubrimiento minimo que se mantiene bajo inserciones de aristas
+// y cambios de peso, en lugar de volver a correr Kruskal o Prim desde cero.
+//
+// El bosque se guarda en un link-cut tree donde cada arista tambien es un nodo (los
+// vertices pesan -infinito), asi que el maximo del camino u-v es la arista mas pesada
+// del ciclo que cerraria una arista nueva u-v. Si la nueva es mas liviana, reemplaza a
+// esa maxima. Insertar una arista o bajar un peso cuesta O(log V) amortizado y el costo
+// total se lee en O(1).
+//
+// Subir el peso de una arista del arbol puede requerir buscar un reemplazo entre todas
+// las aristas fuera del arbol: ese caso recorre la lista de aristas (O(E log V)).
+public class DynamicMST {
+    private static final int NIL = -1;
+
+    private final int V;
+    private final EdgeList edges = new EdgeList(16);
+    private boolean[] inTree = new boolean[16];
+    private long cost;
+
+    // Link-cut tree sobre nodos 0..V-1 (vertices) y V + e (arista e)
+    private int[] left, right, parent, max;
+    private boolean[] rev;
+    private long[] val;
+    private int[] stack;
+
+    // Parte del resultado de Kruskal sobre las aristas {nodo origen, nodo destino, peso}
+    public DynamicMST(int V, int[][] initial) {
+        this.V = V;
+        int capacity = V + Math.max(16, initial.length);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        max = new int[capacity];
+        rev = new boolean[capacity];
+        val = new long[capacity];
+        stack = new int[capacity];
+        Arrays.fill(left, NIL);
+        Arrays.fill(right, NIL);
+        Arrays.fill(parent, NIL);
+        for (int x = 0; x < V; x++) {
+            val[x] = Long.MIN_VALUE;
+            max[x] = x;
+        }
+
+        for (int[] e : initial) {
+            newEdge(e[0], e[1], e[2]);
+        }
+        MSTResult seed = Kruskal.kruskalsMST(V, edges);
+        for (int e : seed.edges()) {
+            linkEdge(e);
+        }
+        cost = seed.cost();
+    }
+
+    // Costo total del bosque actual
+    public long cost() {
+        return cost;
+    }
+
+    public boolean inTree(int e) {
+        return inTree[e];
+    }
+
+    public int edgeCount() {
+        return edges.size();
+    }
+
+    // Agrega la arista u-v con peso w y devuelve su indice
+    public int addEdge(int u, int v, int w) {
+        int e = newEdge(u, v, w);
+        tryInsert(e);
+        return e;
+    }
+
+    // Cambia el peso de la arista e
+    public void updateWeight(int e, int w) {
+        int old = edges.weight(e);
+        if (w == old) return;
+        setWeight(e, w);
+
+        if (!inTree[e]) {
+            // Bajar el peso de una arista externa es como insertarla de nuevo
+            if (w < old) tryInsert(e);
+            return;
+        }
+        cost += (long) w - old;
+        if (w < old) return;
+
+        // Una arista del arbol se encarecio: se corta y se busca el cruce mas liviano
+        cutEdge(e);
+        cost -= w;
+        int ru = findRoot(edges.from(e)), rv = findRoot(edges.to(e));
+        int best = NIL;
+        for (int f = 0; f < edges.size(); f++) {
+            if (inTree[f] || (best != NIL && edges.weight(f) >= edges.weight(best))) continue;
+            int a = findRoot(edges.from(f)), b = findRoot(edges.to(f));
+            if ((a == ru && b == rv) || (a == rv && b == ru)) {
+                best = f;
+            }
+        }
+        if (best != NIL) {
+            linkEdge(best);
+            cost += edges.weight(best);
+        }
+    }
+
+    private int newEdge(int u, int v, int w) {
+        int e = edges.size();
+        edges.add(u, v, w);
+        if (e == inTree.length) {
+            inTree = Arrays.copyOf(inTree, e * 2);
+        }
+        int x = V + e;
+        if (x == val.length) {
+            int capacity = val.length * 2;
+            left = grow(left, capacity);
+            right = grow(right, capacity);
+            parent = grow(parent, capacity);
+            max = Arrays.copyOf(max, capacity);
+            rev = Arrays.copyOf(rev, capacity);
+            val = Arrays.copyOf(val, capacity);
+            stack = new int[capacity];
+        }
+        val[x] = w;
+        max[x] = x;
+        return e;
+    }
+
+    private static int[] grow(int[] a, int capacity) {
+        int n = a.length;
+        a = Arrays.copyOf(a, capacity);
+        Arrays.fill(a, n, capacity, NIL);
+        return a;
+    }
+
+    // Intenta meter la arista externa e, sacando la mas pesada del ciclo que formaria
+    private void tryInsert(int e) {
+        int u = edges.from(e), v = edges.to(e), w = edges.weight(e);
+        if (u == v) return;
+        if (findRoot(u) != findRoot(v)) {
+            linkEdge(e);
+            cost += w;
+            return;
+        }
+        makeRoot(u);
+        access(v);
+        int heaviest = max[v] - V;
+        if (w < edges.weight(heaviest)) {
+            cutEdge(heaviest);
+            linkEdge(e);
+            cost += (long) w - edges.weight(heaviest);
+        }
+    }
+
+    private void setWeight(int e, int w) {
+        int x = V + e;
+        access(x);
+        val[x] = w;
+        pull(x);
+        edges.setWeight(e, w);
+    }
+
+    private void linkEdge(int e) {
+        int x = V + e;
+        link(edges.from(e), x);
+        link(x, edges.to(e));
+        inTree[e] = true;
+    }
+
+    private void cutEdge(int e) {
+        int x = V + e;
+        cut(edges.from(e), x);
+        cut(x, edges.to(e));
+        inTree[e] = false;
+    }
+
+    // ---- Link-cut tree ----
+
+    private boolean isRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void pull(int x) {
+        int m = x;
+        if (left[x] != NIL && val[max[left[x]]] > val[m]) m = max[left[x]];
+        if (right[x] != NIL && val[max[right[x]]] > val[m]) m = max[right[x]];
+        max[x] = m;
+    }
+
+    private void push(int x) {
+        if (rev[x]) {
+            int t = left[x];
+            left[x] = right[x];
+            right[x] = t;
+            if (left[x] != NIL) rev[left[x]] ^= true;
+            if (right[x] != NIL) rev[right[x]] ^= true;
+            rev[x] = false;
+        }
+    }
+
+    private void rotate(int x) {
+        int p = parent[x], g = parent[p];
+        boolean pRoot = isRoot(p);
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NIL) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NIL) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!pRoot) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        pull(p);
+        pull(x);
+    }
+
+    private void splay(int x) {
+        // Bajar las inversiones pendientes desde la raiz del splay hasta x
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            push(stack[--top]);
+        }
+
+        while (!isRoot(x)) {
+            int p = parent[x], g = parent[p];
+            if (!isRoot(p)) {
+                rotate((left[g] == p) == (left[p] == x) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        rev[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        int y = x;
+        push(y);
+        while (left[y] != NIL) {
+            y = left[y];
+            push(y);
+        }
+        splay(y);
+        return y;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    // x e y deben ser adyacentes en el bosque
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        left[y] = NIL;
+        parent[x] = NIL;
+        pull(y);
+    }
+
+    public static void main(String[] args) {
+        //Mismo formato que Kruskal: {nodo origen, nodo destino, peso}
+        int[][] edges = {
+                { 0, 1, 10 }, { 1, 3, 15 }, { 2, 3, 4 }, { 2, 0, 6 }, { 0, 3, 5 }
+        };
+        DynamicMST mst = new DynamicMST(4, edges);
+        System.out.println(mst.cost()); // 19
+
+        mst.addEdge(1, 2, 1); // reemplaza a la arista 0-1 de peso 10
+        System.out.println(mst.cost()); // 10
+        mst.updateWeight(1, 2); // 1-3 baja a 2 y reemplaza a 2-3 de peso 4
+        System.out.println(mst.cost()); // 8
+        mst.updateWeight(1, 20); // 1-3 sube a 20 y vuelve 2-3
+        System.out.println(mst.cost()); // 10
+    }
+}
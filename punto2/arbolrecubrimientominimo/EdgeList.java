@@ -0,0 +1,151 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Lista de aristas no dirigidas {origen, destino, peso} guardada como tres
+// arreglos primitivos paralelos en lugar de un int[] por arista
+public class EdgeList implements WeightedEdges {
+    // A partir de esta cantidad de aristas el radix sort reparte el trabajo en varios hilos
+    static final int PARALLEL_SORT = 1 << 20;
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    private int[] u, v, w;
+    private int size;
+
+    public EdgeList(int capacity) {
+        u = new int[capacity];
+        v = new int[capacity];
+        w = new int[capacity];
+    }
+
+    // Copia aristas en el formato {origen, destino, peso} usado por Kruskal y Prim
+    public static EdgeList of(int[][] edges) {
+        EdgeList list = new EdgeList(edges.length);
+        for (int[] e : edges) {
+            list.add(e[0], e[1], e[2]);
+        }
+        return list;
+    }
+
+    public void add(int from, int to, int weight) {
+        if (size == u.length) {
+            int capacity = Math.max(16, size * 2);
+            u = Arrays.copyOf(u, capacity);
+            v = Arrays.copyOf(v, capacity);
+            w = Arrays.copyOf(w, capacity);
+        }
+        u[size] = from;
+        v[size] = to;
+        w[size] = weight;
+        size++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int from(int e) {
+        return u[e];
+    }
+
+    @Override
+    public int to(int e) {
+        return v[e];
+    }
+
+    @Override
+    public int weight(int e) {
+        return w[e];
+    }
+
+    public void setWeight(int e, int weight) {
+        w[e] = weight;
+    }
+
+    // Indices de las aristas ordenados por peso ascendente. Es un radix sort LSD
+    // estable sobre los bits del peso, asi que los empates quedan en orden de entrada
+    public int[] sortedByWeight() {
+        return sortByWeight(this);
+    }
+
+    // Mismo orden para cualquier origen de aristas (por ejemplo un archivo mapeado)
+    static int[] sortByWeight(WeightedEdges edges) {
+        int size = edges.size();
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        int chunks = size >= PARALLEL_SORT ? Runtime.getRuntime().availableProcessors() : 1;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            if (radixPass(edges, order, buffer, shift, chunks)) {
+                int[] t = order;
+                order = buffer;
+                buffer = t;
+            }
+        }
+        return order;
+    }
+
+    // Una pasada estable por el digito en 'shift'. Devuelve false (sin mover nada)
+    // si todas las aristas comparten ese digito
+    private static boolean radixPass(WeightedEdges edges, int[] src, int[] dst, int shift, int chunks) {
+        int n = src.length;
+        int[][] counts = new int[chunks][BUCKETS];
+
+        // Histograma por trozo
+        forEachChunk(chunks, c -> {
+            int[] count = counts[c];
+            for (int i = chunkStart(n, c, chunks), end = chunkStart(n, c + 1, chunks); i < end; i++) {
+                count[digit(edges.weight(src[i]), shift)]++;
+            }
+        });
+
+        // Desplazamientos: primero por cubeta y dentro de la cubeta por trozo, para mantener la estabilidad
+        int offset = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            int total = 0;
+            for (int c = 0; c < chunks; c++) {
+                total += counts[c][b];
+            }
+            if (total == n) return false;
+            for (int c = 0; c < chunks; c++) {
+                int cnt = counts[c][b];
+                counts[c][b] = offset;
+                offset += cnt;
+            }
+        }
+
+        forEachChunk(chunks, c -> {
+            int[] pos = counts[c];
+            for (int i = chunkStart(n, c, chunks), end = chunkStart(n, c + 1, chunks); i < end; i++) {
+                dst[pos[digit(edges.weight(src[i]), shift)]++] = src[i];
+            }
+        });
+        return true;
+    }
+
+    // Digito de un peso; el bit de signo se invierte para ordenar negativos primero
+    private static int digit(int weight, int shift) {
+        return ((weight ^ Integer.MIN_VALUE) >>> shift) & (BUCKETS - 1);
+    }
+
+    private static int chunkStart(int n, int c, int chunks) {
+        return (int) ((long) n * c / chunks);
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(body);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntUnaryOperator;
+
+/*
+ * Formato binario de grafos para Kruskal y Prim, pensado para mapearse en memoria.
+ * Todo es little-endian:
+ *
+ *   cabecera (32 bytes): magic int, version int, flags int, V int, E long, reservado long
+ *   aristas:             u[E], v[E], w[E]                       (int cada uno)
+ *   CSR (si FLAG_CSR):   offsets[V+1], target[2E], weight[2E], edgeId[2E]
+ *
+ * Con FLAG_SORTED las aristas estan en orden de peso ascendente y Kruskal no necesita
+ * ordenarlas. Cada columna se mapea por separado, asi que su tamaño debe caber en un
+ * buffer (2E * 4 bytes < 2 GB en la seccion CSR).
+ */
+public class GraphFile {
+    static final int MAGIC = 0x4754534D; // bytes 4D 53 54 47 = "MSTG" en little-endian
+    static final int VERSION = 1;
+    static final int FLAG_SORTED = 1;
+    static final int FLAG_CSR = 2;
+    static final int HEADER_BYTES = 32;
+
+    private static final int WRITE_BUFFER = 1 << 20;
+
+    // Convierte un archivo de texto con una arista {nodo origen, nodo destino, peso} por
+    // linea (se ignoran llaves y comas; lineas vacias o que empiezan con # se saltan) al
+    // formato binario ordenado y con CSR. V es el mayor vertice + 1
+    public static void convert(Path text, Path binary) throws IOException {
+        EdgeList edges = new EdgeList(1024);
+        int V = 0;
+        int[] fields = new int[3];
+        try (BufferedReader in = Files.newBufferedReader(text)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = in.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#"))
+                    continue;
+                if (parseInts(trimmed, fields) != 3)
+                    throw new IOException("Linea " + lineNumber + ": se esperaban 3 enteros: " + line);
+                edges.add(fields[0], fields[1], fields[2]);
+                V = Math.max(V, Math.max(fields[0], fields[1]) + 1);
+            }
+        }
+        write(binary, V, edges, true);
+    }
+
+    // Escribe el grafo; con sort = true las aristas quedan ordenadas por peso
+    public static void write(Path binary, int V, EdgeList edges, boolean sort) throws IOException {
+        if (sort) {
+            int[] order = edges.sortedByWeight();
+            EdgeList sorted = new EdgeList(edges.size());
+            for (int e : order) {
+                sorted.add(edges.from(e), edges.to(e), edges.weight(e));
+            }
+            edges = sorted;
+        }
+        CSRGraph csr = new CSRGraph(V, edges);
+        int E = edges.size();
+
+        try (FileChannel out = FileChannel.open(binary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect(WRITE_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            buf.putInt(MAGIC).putInt(VERSION).putInt((sort ? FLAG_SORTED : 0) | FLAG_CSR)
+                    .putInt(V).putLong(E).putLong(0);
+
+            EdgeList list = edges;
+            writeColumn(out, buf, E, list::from);
+            writeColumn(out, buf, E, list::to);
+            writeColumn(out, buf, E, list::weight);
+            writeColumn(out, buf, V + 1, csr.offsets::get);
+            writeColumn(out, buf, 2 * E, csr.target::get);
+            writeColumn(out, buf, 2 * E, csr.weight::get);
+            writeColumn(out, buf, 2 * E, csr.edgeId::get);
+            flush(out, buf);
+        }
+    }
+
+    // Mapea el archivo y devuelve vistas sin copia sobre sus secciones
+    public static MappedGraph load(Path binary) throws IOException {
+        try (FileChannel in = FileChannel.open(binary, StandardOpenOption.READ)) {
+            if (in.size() < HEADER_BYTES)
+                throw new IOException("Archivo demasiado corto para la cabecera: " + binary);
+            ByteBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC)
+                throw new IOException("No es un archivo de grafo: " + binary);
+            int version = header.getInt();
+            if (version != VERSION)
+                throw new IOException("Version no soportada: " + version);
+            int flags = header.getInt();
+            int V = header.getInt();
+            long E = header.getLong();
+            if (V < 0 || E < 0)
+                throw new IOException("Cabecera invalida: V = " + V + ", E = " + E);
+            if (2 * E * Integer.BYTES > Integer.MAX_VALUE)
+                throw new IOException("Demasiadas aristas para mapear por columna: " + E);
+
+            long csrInts = (flags & FLAG_CSR) != 0 ? V + 1 + 6 * E : 0;
+            long expected = HEADER_BYTES + 4 * (3 * E + csrInts);
+            if (in.size() != expected)
+                throw new IOException("Tamaño " + in.size() + " distinto del esperado " + expected);
+
+            long pos = HEADER_BYTES;
+            IntBuffer u = map(in, pos, E);
+            IntBuffer v = map(in, pos += 4 * E, E);
+            IntBuffer w = map(in, pos += 4 * E, E);
+            pos += 4 * E;
+            // Un extremo fuera de rango romperia despues a DSU o a la CSR
+            for (int e = 0; e < E; e++) {
+                if (u.get(e) < 0 || u.get(e) >= V || v.get(e) < 0 || v.get(e) >= V)
+                    throw new IOException("Arista " + e + " con extremo fuera de [0, " + V + "): "
+                            + u.get(e) + " - " + v.get(e));
+            }
+
+            CSRGraph csr = null;
+            if ((flags & FLAG_CSR) != 0) {
+                IntBuffer offsets = map(in, pos, V + 1);
+                if (offsets.get(0) != 0 || offsets.get(V) != 2 * E)
+                    throw new IOException("Offsets CSR inconsistentes: " + offsets.get(0) + ".."
+                            + offsets.get(V) + ", se esperaba 0.." + 2 * E);
+                IntBuffer target = map(in, pos += 4L * (V + 1), 2 * E);
+                IntBuffer weight = map(in, pos += 8 * E, 2 * E);
+                IntBuffer edgeId = map(in, pos += 8 * E, 2 * E);
+                csr = new CSRGraph(V, offsets, target, weight, edgeId);
+            }
+            // Los buffers mapeados siguen siendo validos despues de cerrar el canal
+            return new MappedGraph(V, (flags & FLAG_SORTED) != 0, u, v, w, csr);
+        }
+    }
+
+    private static IntBuffer map(FileChannel in, long pos, long ints) throws IOException {
+        return in.map(FileChannel.MapMode.READ_ONLY, pos, 4 * ints)
+                .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static void writeColumn(FileChannel out, ByteBuffer buf, int n, IntUnaryOperator get)
+            throws IOException {
+        for (int i = 0; i < n; i++) {
+            if (buf.remaining() < Integer.BYTES)
+                flush(out, buf);
+            buf.putInt(get.applyAsInt(i));
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    // Extrae hasta fields.length enteros de la linea y devuelve cuantos encontro
+    private static int parseInts(String line, int[] fields) {
+        int count = 0;
+        int i = 0, n = line.length();
+        while (i < n) {
+            char c = line.charAt(i);
+            boolean negative = c == '-' && i + 1 < n && Character.isDigit(line.charAt(i + 1));
+            if (!negative && !Character.isDigit(c)) {
+                i++;
+                continue;
+            }
+            if (count == fields.length)
+                return count + 1;
+            if (negative)
+                i++;
+            long value = 0;
+            while (i < n && Character.isDigit(line.charAt(i))) {
+                value = value * 10 + (line.charAt(i++) - '0');
+                if (value > (long) Integer.MAX_VALUE + 1)
+                    throw new NumberFormatException("Entero fuera de rango en: " + line);
+            }
+            fields[count++] = (int) (negative ? -value : value);
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path text = Files.createTempFile("grafo", ".txt");
+        Path binary = Files.createTempFile("grafo", ".bin");
+        //Mismo formato que Kruskal: {nodo origen, nodo destino, peso}
+        Files.writeString(text, "{ 0, 1, 10 }\n{ 1, 3, 15 }\n{ 2, 3, 4 }\n{ 2, 0, 6 }\n{ 0, 3, 5 }\n");
+
+        convert(text, binary);
+        MappedGraph graph = load(binary);
+        System.out.println(Kruskal.kruskalsMST(graph).cost()); // ya ordenado: sin sort
+        System.out.println(Prim.spanningForest(graph.csr()).cost());
+
+        Files.delete(text);
+        Files.delete(binary);
+    }
+}
@@ -0,0 +1,88 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Arrays;
+
+// Min-heap d-ario indexado por vertice con decrease-key real: pos[v] dice donde esta
+// v dentro del heap, asi que cada vertice ocupa a lo sumo una posicion
+class IndexedHeap {
+    private static final int D = 4;
+
+    private final int[] heap;
+    private final int[] pos;
+    private final long[] key;
+    private int size;
+
+    IndexedHeap(int n) {
+        heap = new int[n];
+        pos = new int[n];
+        key = new long[n];
+        Arrays.fill(pos, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int v) {
+        return pos[v] != -1;
+    }
+
+    long key(int v) {
+        return key[v];
+    }
+
+    // Inserta v o, si ya esta, baja su clave cuando k es menor
+    void insertOrDecrease(int v, long k) {
+        if (pos[v] == -1) {
+            key[v] = k;
+            heap[size] = v;
+            pos[v] = size;
+            siftUp(size++);
+        } else if (k < key[v]) {
+            key[v] = k;
+            siftUp(pos[v]);
+        }
+    }
+
+    int poll() {
+        int top = heap[0];
+        pos[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int v = heap[i];
+        while (i > 0) {
+            int p = (i - 1) / D;
+            if (key[heap[p]] <= key[v]) break;
+            heap[i] = heap[p];
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+
+    private void siftDown(int i) {
+        int v = heap[i];
+        while (true) {
+            int first = i * D + 1;
+            if (first >= size) break;
+            int min = first;
+            for (int c = first + 1, end = Math.min(first + D, size); c < end; c++) {
+                if (key[heap[c]] < key[heap[min]]) min = c;
+            }
+            if (key[heap[min]] >= key[v]) break;
+            heap[i] = heap[min];
+            pos[heap[i]] = i;
+            i = min;
+        }
+        heap[i] = v;
+        pos[v] = i;
+    }
+}
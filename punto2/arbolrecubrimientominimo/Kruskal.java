@@ -27,49 +27,48 @@ public class Kruskal {
         return cost;
     }
 
-    public static void main(String[] args) {
-        //En este caso las aristas tambien estan ordenadas como {nodo origen, nodo destino, peso} siendo grafos no dirigidos
-        int[][] edges = {
-                { 0, 1, 10 }, { 1, 3, 15 }, { 2, 3, 4 }, { 2, 0, 6 }, { 0, 3, 5 }
-        };
-
-        System.out.println(kruskalsMST(4, edges));
+    // Variante sobre EdgeList: ordena con radix sort en lugar de un comparador,
+    // acumula el costo en long y devuelve tambien las aristas elegidas
+    public static MSTResult kruskalsMST(int V, EdgeList edges) {
+        return kruskalsMST(V, edges, edges.sortedByWeight());
     }
 
-}
+    // Variante sobre un grafo binario mapeado; si el archivo ya viene ordenado por
+    // peso se recorre tal cual, sin ordenar
+    public static MSTResult kruskalsMST(MappedGraph graph) {
+        int[] order = graph.isSortedByWeight() ? null : EdgeList.sortByWeight(graph);
+        return kruskalsMST(graph.vertexCount(), graph, order);
+    }
 
-// Disjoint set data structure
-class DSU {
-    private int[] parent, rank;
+    // Recorre las aristas en el orden dado (order == null: orden de indice)
+    private static MSTResult kruskalsMST(int V, WeightedEdges edges, int[] order) {
+        DSU dsu = new DSU(V);
+        int[] chosen = new int[Math.max(V - 1, 0)];
+        long cost = 0;
+        int count = 0;
 
-    public DSU(int n) {
-        parent = new int[n];
-        rank = new int[n];
-        for (int i = 0; i < n; i++) {
-            parent[i] = i;
-            rank[i] = 1;
+        for (int i = 0; i < edges.size() && count < V - 1; i++) {
+            int e = order != null ? order[i] : i;
+            // union devuelve false si ya estaban conectados (formaria un ciclo)
+            if (dsu.union(edges.from(e), edges.to(e))) {
+                cost += edges.weight(e);
+                chosen[count++] = e;
+            }
         }
+        return new MSTResult(cost, Arrays.copyOf(chosen, count));
     }
 
-    public int find(int i) {
-        if (parent[i] != i) {
-            parent[i] = find(parent[i]);
-        }
-        return parent[i];
-    }
+    public static void main(String[] args) {
+        //En este caso las aristas tambien estan ordenadas como {nodo origen, nodo destino, peso} siendo grafos no dirigidos
+        int[][] edges = {
+                { 0, 1, 10 }, { 1, 3, 15 }, { 2, 3, 4 }, { 2, 0, 6 }, { 0, 3, 5 }
+        };
 
-    public void union(int x, int y) {
-        int s1 = find(x);
-        int s2 = find(y);
-        if (s1 != s2) {
-            if (rank[s1] < rank[s2]) {
-                parent[s1] = s2;
-            } else if (rank[s1] > rank[s2]) {
-                parent[s2] = s1;
-            } else {
-                parent[s2] = s1;
-                rank[s1]++;
-            }
-        }
+        // kruskalsMST(int, int[][]) ordena edges en su lugar, asi que la copia se toma antes
+        EdgeList list = EdgeList.of(edges);
+        System.out.println(kruskalsMST(4, edges));
+
+        MSTResult result = kruskalsMST(4, list);
+        System.out.println(result.cost() + " " + Arrays.toString(result.edges()));
     }
 }
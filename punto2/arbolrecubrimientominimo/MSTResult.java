@@ -0,0 +1,22 @@
+package punto2.arbolrecubrimientominimo;
+
+// Resultado de un arbol (o bosque) de recubrimiento minimo: costo total e
+// indices de las aristas elegidas dentro de la entrada
+public class MSTResult {
+    private final long cost;
+    private final int[] edges;
+
+    public MSTResult(long cost, int[] edges) {
+        this.cost = cost;
+        this.edges = edges;
+    }
+
+    public long cost() {
+        return cost;
+    }
+
+    // Indices de las aristas elegidas (Kruskal los deja en el orden en que se agregaron)
+    public int[] edges() {
+        return edges;
+    }
+}
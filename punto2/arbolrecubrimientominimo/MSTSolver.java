@@ -0,0 +1,82 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.util.Arrays;
+
+// Punto de entrada que elige la implementacion de MST segun la densidad del grafo
+// y el formato de la entrada:
+// - matriz V x V: Prim denso O(V^2)
+// - lista de aristas con E cerca de V^2: se arma la matriz y se usa Prim denso
+// - densidad intermedia: Prim con heap indexado sobre CSR
+// - grafos ralos: Kruskal con radix sort
+// Todas devuelven el costo del bosque de recubrimiento minimo en long.
+public class MSTSolver {
+    // E / V^2 a partir de la cual conviene la matriz densa
+    static final double DENSE_RATIO = 0.25;
+    // Tope de celdas de la matriz densa (4 bytes cada una)
+    static final long MAX_DENSE_CELLS = 1L << 28;
+    // Grado medio a partir del cual Prim con heap le gana a ordenar todas las aristas
+    static final int HEAP_MIN_AVG_DEGREE = 8;
+
+    // Aristas en el formato {nodo origen, nodo destino, peso}
+    public static long minimumCost(int V, int[][] edges) {
+        return minimumCost(V, EdgeList.of(edges));
+    }
+
+    public static long minimumCost(int V, EdgeList edges) {
+        long E = edges.size();
+        long cells = (long) V * V;
+        // Prim.NO_EDGE es tambien un peso valido: si aparece, la matriz no lo puede representar
+        if (V > 0 && cells <= MAX_DENSE_CELLS && E >= DENSE_RATIO * cells && !hasNoEdgeWeight(edges)) {
+            return Prim.denseSpanningForest(V, toMatrix(V, edges), null);
+        }
+        if (E >= (long) HEAP_MIN_AVG_DEGREE * V) {
+            return Prim.spanningForest(new CSRGraph(V, edges)).cost();
+        }
+        return Kruskal.kruskalsMST(V, edges).cost();
+    }
+
+    // Matriz plana V x V con Prim.NO_EDGE donde no hay arista
+    public static long minimumCost(int V, int[] matrix) {
+        if ((long) V * V != matrix.length)
+            throw new IllegalArgumentException("La matriz debe tener " + V + " x " + V + " celdas: " + matrix.length);
+        return Prim.denseSpanningForest(V, matrix, null);
+    }
+
+    // Grafo CSR ya construido: no hace falta reordenar aristas
+    public static long minimumCost(CSRGraph g) {
+        return Prim.spanningForest(g).cost();
+    }
+
+    static boolean hasNoEdgeWeight(EdgeList edges) {
+        for (int e = 0; e < edges.size(); e++) {
+            if (edges.weight(e) == Prim.NO_EDGE)
+                return true;
+        }
+        return false;
+    }
+
+    // Matriz de adyacencia; con aristas repetidas se queda la mas liviana y se ignoran lazos.
+    // Rechaza aristas de peso Prim.NO_EDGE, que en la matriz se confundirian con "sin arista"
+    static int[] toMatrix(int V, EdgeList edges) {
+        int[] matrix = new int[V * V];
+        Arrays.fill(matrix, Prim.NO_EDGE);
+        for (int e = 0; e < edges.size(); e++) {
+            int u = edges.from(e), v = edges.to(e), w = edges.weight(e);
+            if (w == Prim.NO_EDGE)
+                throw new IllegalArgumentException("La arista " + e + " tiene peso " + w + ", reservado para Prim.NO_EDGE");
+            if (u == v || w >= matrix[u * V + v])
+                continue;
+            matrix[u * V + v] = w;
+            matrix[v * V + u] = w;
+        }
+        return matrix;
+    }
+
+    public static void main(String[] args) {
+        //Mismo formato que Kruskal: {nodo origen, nodo destino, peso}
+        int[][] edges = {
+                { 0, 1, 10 }, { 1, 3, 15 }, { 2, 3, 4 }, { 2, 0, 6 }, { 0, 3, 5 }
+        };
+        System.out.println(minimumCost(4, edges)); // denso: 5 aristas sobre 16 celdas
+    }
+}
@@ -0,0 +1,55 @@
+package punto2.arbolrecubrimientominimo;
+
+import java.nio.IntBuffer;
+
+// Grafo leido de un GraphFile: las aristas y la seccion CSR son vistas sobre el
+// archivo mapeado en memoria, sin copiarlas al heap
+public class MappedGraph implements WeightedEdges {
+    private final int V;
+    private final boolean sorted;
+    private final IntBuffer u, v, w;
+    private final CSRGraph csr;
+
+    MappedGraph(int V, boolean sorted, IntBuffer u, IntBuffer v, IntBuffer w, CSRGraph csr) {
+        this.V = V;
+        this.sorted = sorted;
+        this.u = u;
+        this.v = v;
+        this.w = w;
+        this.csr = csr;
+    }
+
+    public int vertexCount() {
+        return V;
+    }
+
+    @Override
+    public int size() {
+        return w.limit();
+    }
+
+    @Override
+    public int from(int e) {
+        return u.get(e);
+    }
+
+    @Override
+    public int to(int e) {
+        return v.get(e);
+    }
+
+    @Override
+    public int weight(int e) {
+        return w.get(e);
+    }
+
+    // true si las aristas estan guardadas en orden de peso ascendente
+    public boolean isSortedByWeight() {
+        return sorted;
+    }
+
+    // Adyacencias CSR del archivo (sus indices de arista son los de este grafo), o null si no las trae
+    public CSRGraph csr() {
+        return csr;
+    }
+}
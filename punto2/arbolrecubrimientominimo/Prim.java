@@ -1,6 +1,7 @@
 package punto2.arbolrecubrimientominimo;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 // Class to form pair
 
@@ -14,11 +15,18 @@ class Pair implements Comparable<Pair> {
     }
 
     public int compareTo(Pair that) {
-        return this.wt - that.wt;
+        return Integer.compare(this.wt, that.wt);
     }
 }
 
 public class Prim {
+    // Marca de "sin arista" en la matriz densa (ese peso no se puede usar como arista real)
+    static final int NO_EDGE = Integer.MAX_VALUE;
+
+    // A partir de esta cantidad de vertices la version densa reparte cada barrido en trozos paralelos
+    static final int DENSE_PARALLEL_V = 1 << 12;
+    private static final int DENSE_CHUNK = 1 << 10;
+
     // Function of spanning tree
     static int spanningTree(int V, int E, int edges[][]) {
         ArrayList<ArrayList<Pair>> adj = new ArrayList<>();
@@ -54,6 +62,108 @@ public class Prim {
         return s;
     }
 
+    // Variante sobre un CSRGraph reutilizable: heap indexado con decrease-key, costo
+    // en long y, si el grafo no es conexo, devuelve el bosque de recubrimiento minimo
+    // (se arranca un nuevo arbol desde cada vertice no visitado)
+    static MSTResult spanningForest(CSRGraph g) {
+        int V = g.V;
+        IndexedHeap pq = new IndexedHeap(V);
+        boolean[] vis = new boolean[V];
+        int[] via = new int[V]; // arista con la que se llega a cada vertice
+        int[] chosen = new int[Math.max(V - 1, 0)];
+        int count = 0;
+        long s = 0;
+
+        for (int root = 0; root < V; root++) {
+            if (vis[root])
+                continue;
+            via[root] = -1;
+            pq.insertOrDecrease(root, 0);
+            while (!pq.isEmpty()) {
+                int v = pq.poll();
+                vis[v] = true;
+                if (via[v] != -1) {
+                    s += pq.key(v);
+                    chosen[count++] = via[v];
+                }
+                for (int i = g.offsets.get(v), end = g.offsets.get(v + 1); i < end; i++) {
+                    int to = g.target.get(i);
+                    int wt = g.weight.get(i);
+                    if (!vis[to] && (!pq.contains(to) || wt < pq.key(to))) {
+                        via[to] = g.edgeId.get(i);
+                        pq.insertOrDecrease(to, wt);
+                    }
+                }
+            }
+        }
+        return new MSTResult(s, Arrays.copyOf(chosen, count));
+    }
+
+    // Prim O(V^2) para grafos densos sobre una matriz plana V x V: matrix[u * V + v] es el
+    // peso de la arista u-v (NO_EDGE si no existe). No usa heap ni objetos por arista: en
+    // cada paso relaja la fila del vertice recien agregado y busca el minimo en el mismo
+    // barrido. Si parent no es null, parent[v] queda con el vertice por el que se unio v
+    // al arbol (-1 para la raiz de cada componente). Devuelve el costo del bosque minimo.
+    static long denseSpanningForest(int V, int[] matrix, int[] parent) {
+        int[] key = new int[V];
+        int[] from = parent != null ? parent : new int[V];
+        boolean[] vis = new boolean[V];
+        Arrays.fill(key, NO_EDGE);
+        Arrays.fill(from, -1);
+
+        int chunks = V >= DENSE_PARALLEL_V ? (V + DENSE_CHUNK - 1) / DENSE_CHUNK : 1;
+        int[] chunkBest = new int[chunks];
+        long s = 0;
+        int v = 0; // El primer arbol arranca en el vertice 0
+
+        for (int step = 0; step < V; step++) {
+            vis[v] = true;
+            if (from[v] != -1)
+                s += key[v];
+
+            // Relajar la fila de v y elegir el siguiente vertice (minimo entre no visitados)
+            int base = v * V;
+            int next;
+            if (chunks == 1) {
+                next = relaxAndScan(matrix, base, key, from, vis, v, 0, V);
+            } else {
+                int current = v;
+                IntStream.range(0, chunks).parallel().forEach(c -> chunkBest[c] =
+                        relaxAndScan(matrix, base, key, from, vis, current, c * DENSE_CHUNK,
+                                Math.min(V, (c + 1) * DENSE_CHUNK)));
+                next = -1;
+                for (int c = 0; c < chunks; c++) {
+                    int b = chunkBest[c];
+                    if (b != -1 && (next == -1 || key[b] < key[next]))
+                        next = b;
+                }
+            }
+            if (next == -1)
+                break;
+            v = next;
+        }
+        return s;
+    }
+
+    // Relaja key[lo..hi) con la fila de v y devuelve el no visitado de menor clave (-1 si no hay).
+    // Un vertice con clave NO_EDGE es inalcanzable: inicia un nuevo arbol del bosque
+    private static int relaxAndScan(int[] matrix, int base, int[] key, int[] from, boolean[] vis,
+                                    int v, int lo, int hi) {
+        int best = -1;
+        for (int x = lo; x < hi; x++) {
+            if (vis[x])
+                continue;
+            int w = matrix[base + x];
+            if (w < key[x]) {
+                key[x] = w;
+                from[x] = v;
+            }
+            if (best == -1 || key[x] < key[best])
+                best = x;
+        }
+        return best;
+    }
+
     // Driver code
     public static void main(String[] args) {
         /* Esta matriz representa las aristas que conforman el grafo
@@ -65,5 +175,12 @@ public class Prim {
 
         // Function call
         System.out.println(spanningTree(3, 3, graph));
+        System.out.println(spanningForest(new CSRGraph(3, graph)).cost());
+
+        int[] matrix = {
+                NO_EDGE, 5, 1,
+                5, NO_EDGE, 3,
+                1, 3, NO_EDGE };
+        System.out.println(denseSpanningForest(3, matrix, null));
     }
 }
@@ -0,0 +1,13 @@
+package punto2.arbolrecubrimientominimo;
+
+// Acceso por indice a aristas {origen, destino, peso}, sin importar si viven en
+// arreglos del heap (EdgeList) o en un archivo mapeado (MappedGraph)
+interface WeightedEdges {
+    int size();
+
+    int from(int e);
+
+    int to(int e);
+
+    int weight(int e);
+}
@@ -0,0 +1,481 @@
+package punto2.mochilafraccionaria;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+// Catalogo de objetos preparado para responder muchas consultas de mochila fraccionaria
+// con distintas capacidades sin volver a ordenar.
+//
+// Los objetos se ordenan una vez por valor/peso en "casillas" y dos arboles de Fenwick
+// guardan las sumas prefijas de peso y valor por casilla. Una consulta baja por el arbol
+// hasta la ultima casilla que entra completa: O(log n). Los cambios no reordenan todo:
+// - quitar un objeto pone su casilla en cero en los arboles (O(log n));
+// - agregar o cambiar el precio de un objeto lo deja en una lista corta de pendientes,
+//   tambien ordenada por razon, que la consulta combina con las casillas por busqueda
+//   binaria (O(log m log n));
+// - cuando los pendientes o las casillas vacias crecen demasiado se reconstruye todo.
+// Las consultas toman el lock de lectura y pueden correr en paralelo. Los cambios se
+// serializan entre si con otro lock y solo toman el de escritura para los pasos cortos de
+// arriba. La reconstruccion (O(n log n)) se arma sobre copias sin bloquear a los lectores,
+// que siguen usando las casillas viejas, y se publica con un intercambio de referencias.
+public class CatalogoMochila {
+    private static final int QUITADO = -2;
+    private static final int PENDIENTE = -1;
+    private static final int MIN_PENDIENTES = 32;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Un solo escritor a la vez; mientras lo tiene, los datos solo cambian por sus manos
+    private final ReentrantLock escritor = new ReentrantLock();
+
+    // Datos por id (el id es la posicion en la lista original o el devuelto por agregar)
+    private Objeto[] objetos;
+    private int[] casillaDe; // casilla, PENDIENTE o QUITADO
+    private int ids;
+
+    // Casillas ordenadas por razon descendente, con los valores que tenian al reconstruir
+    private int[] casillaId = new int[0];
+    private int[] casillaValor = new int[0];
+    private int[] casillaPeso = new int[0];
+    private long[] fenwickPeso = new long[1];
+    private long[] fenwickValor = new long[1];
+    private int casillas;
+    private int vacias;
+
+    // Pendientes ordenados por razon descendente y sus sumas prefijas (largo m + 1)
+    private int[] pendienteId = new int[MIN_PENDIENTES];
+    private long[] pendientePeso = new long[MIN_PENDIENTES + 1];
+    private long[] pendienteValor = new long[MIN_PENDIENTES + 1];
+    private int m;
+
+    private int version;
+
+    public CatalogoMochila(List<Objeto> lista) {
+        ids = lista.size();
+        objetos = Arrays.copyOf(lista.toArray(new Objeto[0]), Math.max(ids, 16));
+        casillaDe = new int[objetos.length];
+        instalar(ordenarCasillas(objetos, casillaDe, ids));
+    }
+
+    // Agrega un objeto y devuelve su id
+    public int agregar(Objeto o) {
+        escritor.lock();
+        try {
+            int id = ids;
+            if (m == pendienteId.length) {
+                // Sin lugar en los pendientes: entra directo en la reconstruccion
+                reconstruir(id, o);
+                return id;
+            }
+            lock.writeLock().lock();
+            try {
+                if (ids == objetos.length) {
+                    objetos = Arrays.copyOf(objetos, ids * 2);
+                    casillaDe = Arrays.copyOf(casillaDe, ids * 2);
+                }
+                ids++;
+                objetos[id] = o;
+                insertarPendiente(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return id;
+        } finally {
+            escritor.unlock();
+        }
+    }
+
+    public void quitar(int id) {
+        escritor.lock();
+        try {
+            validar(id);
+            if (casillaDe[id] >= 0 && vacias + 1 > casillas / 2) {
+                // Quedarian demasiadas casillas vacias
+                reconstruir(id, null);
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                sacar(id);
+                casillaDe[id] = QUITADO;
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            escritor.unlock();
+        }
+    }
+
+    // Cambia valor y peso del objeto (por ejemplo un cambio de precio)
+    public void cambiar(int id, int valor, int peso) {
+        escritor.lock();
+        try {
+            validar(id);
+            Objeto nuevo = new Objeto(objetos[id].nombre, valor, peso);
+            if (casillaDe[id] >= 0 && m == pendienteId.length) {
+                // Sale de su casilla pero no hay lugar en los pendientes
+                reconstruir(id, nuevo);
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                sacar(id);
+                objetos[id] = nuevo;
+                insertarPendiente(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            escritor.unlock();
+        }
+    }
+
+    public Objeto getObjeto(int id) {
+        lock.readLock().lock();
+        try {
+            return casillaDe[id] == QUITADO ? null : objetos[id];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Valor maximo para la capacidad dada, igual al de obtenerMaximo sobre el catalogo actual
+    public double maxValue(int capacidad) {
+        return seleccionar(capacidad).getValorTotal();
+    }
+
+    // Seleccion optima como vista: no copia objetos y se recorre con forEachCompleto
+    public Seleccion seleccionar(int capacidad) {
+        lock.readLock().lock();
+        try {
+            return calcular(capacidad);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Vista sobre la seleccion de una consulta: los objetos completos son las casillas
+    // [0, casillasTomadas) que sigan vivas y los primeros pendientesTomados pendientes.
+    // Es valida hasta la siguiente modificacion del catalogo; despues de eso recorrerla
+    // lanza ConcurrentModificationException.
+    public class Seleccion {
+        private final int version;
+        private final int casillasTomadas;
+        private final int pendientesTomados;
+        private final int fraccionado;
+        private final double fraccion;
+        private final double valorTotal;
+
+        private Seleccion(int version, int casillasTomadas, int pendientesTomados,
+                          int fraccionado, double fraccion, double valorTotal) {
+            this.version = version;
+            this.casillasTomadas = casillasTomadas;
+            this.pendientesTomados = pendientesTomados;
+            this.fraccionado = fraccionado;
+            this.fraccion = fraccion;
+            this.valorTotal = valorTotal;
+        }
+
+        public double getValorTotal() {
+            return valorTotal;
+        }
+
+        // Id del objeto partido, o -1 si no hubo que partir ninguno
+        public int getFraccionado() {
+            return fraccionado;
+        }
+
+        public double getFraccion() {
+            return fraccion;
+        }
+
+        // Recorre los ids de los objetos que entran completos
+        public void forEachCompleto(IntConsumer accion) {
+            lock.readLock().lock();
+            try {
+                if (version != CatalogoMochila.this.version)
+                    throw new ConcurrentModificationException("El catalogo cambio despues de la consulta");
+                for (int s = 0; s < casillasTomadas; s++) {
+                    int id = casillaId[s];
+                    if (casillaDe[id] == s)
+                        accion.accept(id);
+                }
+                for (int j = 0; j < pendientesTomados; j++) {
+                    accion.accept(pendienteId[j]);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private Seleccion calcular(int capacidad) {
+        // Mayor j tal que los pendientes 0..j-1 y todas las casillas que van antes que ellos entran
+        int lo = 0, hi = m;
+        while (lo < hi) {
+            int j = (lo + hi + 1) >>> 1;
+            if (pendientePeso[j] + prefijo(fenwickPeso, antesDe(j - 1)) <= capacidad) lo = j;
+            else hi = j - 1;
+        }
+        int j = lo;
+        int desde = j == 0 ? 0 : antesDe(j - 1);
+        int hasta = j == m ? casillas : antesDe(j);
+        long pesoDesde = prefijo(fenwickPeso, desde);
+        long resto = capacidad - pendientePeso[j] - pesoDesde;
+
+        int tomadas;
+        int fraccionado = -1;
+        int pesoPartido = 0, valorPartido = 0;
+        long pesoRango = prefijo(fenwickPeso, hasta) - pesoDesde;
+        if (pesoRango <= resto) {
+            // Entran todas las casillas hasta el siguiente pendiente; se parte ese pendiente
+            tomadas = hasta;
+            resto -= pesoRango;
+            if (j < m) {
+                Objeto o = objetos[pendienteId[j]];
+                fraccionado = pendienteId[j];
+                pesoPartido = o.peso;
+                valorPartido = o.valor;
+            }
+        } else {
+            tomadas = bajar(fenwickPeso, pesoDesde + resto);
+            resto = pesoDesde + resto - prefijo(fenwickPeso, tomadas);
+            fraccionado = casillaId[tomadas];
+            pesoPartido = casillaPeso[tomadas];
+            valorPartido = casillaValor[tomadas];
+        }
+
+        double valor = pendienteValor[j] + prefijo(fenwickValor, tomadas);
+        double fraccion = 0;
+        if (fraccionado != -1 && resto > 0) {
+            fraccion = (double) resto / pesoPartido;
+            valor += valorPartido * fraccion;
+        } else {
+            fraccionado = -1;
+        }
+        return new Seleccion(version, tomadas, j, fraccionado, fraccion, valor);
+    }
+
+    // Cantidad de casillas con razon mayor o igual que la del pendiente j
+    private int antesDe(int j) {
+        Objeto p = objetos[pendienteId[j]];
+        int lo = 0, hi = casillas;
+        while (lo < hi) {
+            int s = (lo + hi) >>> 1;
+            if (compararRazon(casillaValor[s], casillaPeso[s], p.valor, p.peso) >= 0) lo = s + 1;
+            else hi = s;
+        }
+        return lo;
+    }
+
+    private void validar(int id) {
+        if (id < 0 || id >= ids)
+            throw new IllegalArgumentException("No existe el objeto " + id);
+        if (casillaDe[id] == QUITADO)
+            throw new IllegalArgumentException("El objeto " + id + " ya fue quitado");
+    }
+
+    // Saca el objeto de su casilla o de los pendientes, sin marcarlo como quitado
+    private void sacar(int id) {
+        int s = casillaDe[id];
+        if (s >= 0) {
+            sumar(fenwickPeso, s, -casillaPeso[s]);
+            sumar(fenwickValor, s, -casillaValor[s]);
+            vacias++;
+        } else {
+            int j = 0;
+            while (pendienteId[j] != id) j++;
+            System.arraycopy(pendienteId, j + 1, pendienteId, j, m - j - 1);
+            m--;
+            recalcularPendientes(j);
+        }
+    }
+
+    // El llamador se asegura de que haya lugar (m < pendienteId.length)
+    private void insertarPendiente(int id) {
+        casillaDe[id] = PENDIENTE;
+        Objeto o = objetos[id];
+        int lo = 0, hi = m;
+        while (lo < hi) {
+            int j = (lo + hi) >>> 1;
+            Objeto p = objetos[pendienteId[j]];
+            if (compararRazon(p.valor, p.peso, o.valor, o.peso) >= 0) lo = j + 1;
+            else hi = j;
+        }
+        System.arraycopy(pendienteId, lo, pendienteId, lo + 1, m - lo);
+        pendienteId[lo] = id;
+        m++;
+        recalcularPendientes(lo);
+        version++;
+    }
+
+    private int limitePendientes() {
+        return Math.max(MIN_PENDIENTES, (int) Math.sqrt(casillas));
+    }
+
+    private void recalcularPendientes(int desde) {
+        for (int j = desde; j < m; j++) {
+            Objeto o = objetos[pendienteId[j]];
+            pendientePeso[j + 1] = pendientePeso[j] + o.peso;
+            pendienteValor[j + 1] = pendienteValor[j] + o.valor;
+        }
+    }
+
+    // Casillas y arboles nuevos, armados sin tocar los del catalogo
+    private static final class Casillas {
+        int[] id, valor, peso;
+        long[] fenwickPeso, fenwickValor;
+    }
+
+    // Vuelve a ordenar todos los objetos con el cambio (id, nuevo) aplicado; nuevo == null
+    // quita el objeto. Se ordena sobre copias de objetos y casillaDe sin el lock de escritura
+    // (el lock "escritor" garantiza que nadie mas los modifica) y despues se publica todo de
+    // una vez, asi que los lectores nunca ven un estado a medio armar.
+    private void reconstruir(int id, Objeto nuevo) {
+        int nuevosIds = Math.max(ids, id + 1);
+        int capacidad = nuevosIds > objetos.length ? objetos.length * 2 : objetos.length;
+        Objeto[] copiaObjetos = Arrays.copyOf(objetos, capacidad);
+        int[] copiaCasillaDe = Arrays.copyOf(casillaDe, capacidad);
+        if (nuevo == null) {
+            copiaCasillaDe[id] = QUITADO;
+        } else {
+            copiaObjetos[id] = nuevo;
+            copiaCasillaDe[id] = PENDIENTE;
+        }
+        Casillas c = ordenarCasillas(copiaObjetos, copiaCasillaDe, nuevosIds);
+
+        lock.writeLock().lock();
+        try {
+            objetos = copiaObjetos;
+            casillaDe = copiaCasillaDe;
+            ids = nuevosIds;
+            instalar(c);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ordena los objetos vivos en casillas nuevas y anota la casilla de cada uno en casillaDe
+    private static Casillas ordenarCasillas(Objeto[] objetos, int[] casillaDe, int ids) {
+        int[] vivos = new int[ids];
+        int n = 0;
+        for (int id = 0; id < ids; id++) {
+            if (casillaDe[id] != QUITADO)
+                vivos[n++] = id;
+        }
+        vivos = Arrays.copyOf(vivos, n);
+        ordenarPorRazon(objetos, vivos);
+
+        Casillas c = new Casillas();
+        c.id = vivos;
+        c.valor = new int[n];
+        c.peso = new int[n];
+        c.fenwickPeso = new long[n + 1];
+        c.fenwickValor = new long[n + 1];
+        for (int s = 0; s < n; s++) {
+            Objeto o = objetos[vivos[s]];
+            casillaDe[vivos[s]] = s;
+            c.valor[s] = o.valor;
+            c.peso[s] = o.peso;
+            c.fenwickPeso[s + 1] = o.peso;
+            c.fenwickValor[s + 1] = o.valor;
+        }
+        // Construccion lineal del arbol de Fenwick
+        for (int i = 1; i <= n; i++) {
+            int padre = i + (i & -i);
+            if (padre <= n) {
+                c.fenwickPeso[padre] += c.fenwickPeso[i];
+                c.fenwickValor[padre] += c.fenwickValor[i];
+            }
+        }
+        return c;
+    }
+
+    // Reemplaza las casillas y vacia los pendientes: O(1) mas los arreglos de pendientes
+    private void instalar(Casillas c) {
+        casillas = c.id.length;
+        casillaId = c.id;
+        casillaValor = c.valor;
+        casillaPeso = c.peso;
+        fenwickPeso = c.fenwickPeso;
+        fenwickValor = c.fenwickValor;
+        vacias = 0;
+        int limite = limitePendientes();
+        pendienteId = new int[limite];
+        pendientePeso = new long[limite + 1];
+        pendienteValor = new long[limite + 1];
+        m = 0;
+        version++;
+    }
+
+    // Merge sort estable iterativo de ids por razon descendente, comparando en cruzado
+    private static void ordenarPorRazon(Objeto[] objetos, int[] a) {
+        int n = a.length;
+        int[] tmp = new int[n];
+        for (int ancho = 1; ancho < n; ancho *= 2) {
+            for (int lo = 0; lo < n - ancho; lo += 2 * ancho) {
+                int mid = lo + ancho, hi = Math.min(lo + 2 * ancho, n);
+                int i = lo, j = mid, k = lo;
+                while (i < mid && j < hi) {
+                    Objeto x = objetos[a[i]], y = objetos[a[j]];
+                    tmp[k++] = compararRazon(x.valor, x.peso, y.valor, y.peso) >= 0 ? a[i++] : a[j++];
+                }
+                while (i < mid) tmp[k++] = a[i++];
+                while (j < hi) tmp[k++] = a[j++];
+                System.arraycopy(tmp, lo, a, lo, hi - lo);
+            }
+        }
+    }
+
+    private static int compararRazon(int v1, int p1, int v2, int p2) {
+        return Long.compare((long) v1 * p2, (long) v2 * p1);
+    }
+
+    // Suma de las primeras k casillas
+    private static long prefijo(long[] fenwick, int k) {
+        long s = 0;
+        for (int i = k; i > 0; i -= i & -i) {
+            s += fenwick[i];
+        }
+        return s;
+    }
+
+    private static void sumar(long[] fenwick, int casilla, long delta) {
+        for (int i = casilla + 1; i < fenwick.length; i += i & -i) {
+            fenwick[i] += delta;
+        }
+    }
+
+    // Mayor k con prefijo(k) <= objetivo
+    private static int bajar(long[] fenwick, long objetivo) {
+        int n = fenwick.length - 1;
+        int pos = 0;
+        for (int paso = Integer.highestOneBit(Math.max(n, 1)); paso > 0; paso >>= 1) {
+            if (pos + paso <= n && fenwick[pos + paso] <= objetivo) {
+                pos += paso;
+                objetivo -= fenwick[pos];
+            }
+        }
+        return pos;
+    }
+
+    public static void main(String[] args) {
+        CatalogoMochila catalogo = new CatalogoMochila(List.of(
+                new Objeto("O1", 60, 10), new Objeto("O2", 100, 20), new Objeto("O3", 120, 30)));
+        System.out.println(catalogo.maxValue(40)); // 200.0
+        System.out.println(catalogo.maxValue(50)); // 240.0
+
+        int o4 = catalogo.agregar(new Objeto("O4", 100, 10));
+        System.out.println(catalogo.maxValue(40)); // 100 + 60 + 100 = 260.0
+        catalogo.cambiar(o4, 30, 10);
+        catalogo.quitar(0);
+        Seleccion seleccion = catalogo.seleccionar(40);
+        System.out.print(seleccion.getValorTotal() + " ->");
+        seleccion.forEachCompleto(id -> System.out.print(" " + catalogo.getObjeto(id).nombre));
+        System.out.println(" + " + seleccion.getFraccion() + " de " + catalogo.getObjeto(seleccion.getFraccionado()).nombre);
+    }
+}
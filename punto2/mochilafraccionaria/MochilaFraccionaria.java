@@ -1,27 +1,15 @@
 package punto2.mochilafraccionaria;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-
-class Objeto {
-    String nombre;
-    int valor;
-    int peso;
-
-    public Objeto(String nombre, int valor, int peso) {
-        this.nombre = nombre;
-        this.valor = valor;
-        this.peso = peso;
-    }
-
-    public double getValorPorPeso() {
-        return (double) valor / peso;
-    }
-    
-}
+import java.util.concurrent.ThreadLocalRandom;
 
 public class MochilaFraccionaria {
 
+    // Si la capacidad es menor que el peso total dividido por este factor se usa el heap acotado
+    static final int FACTOR_HEAP = 16;
+
     public double obtenerMaximo(List<Objeto> objetos, int capacidadMochila, ArrayList<Objeto> objetosSeleccionados) {
         // Ordenar los objetos por valor/peso en orden descendente
         objetos.sort((o1, o2) -> Double.compare(o2.getValorPorPeso(), o1.getValorPorPeso()));
@@ -50,6 +38,184 @@ public class MochilaFraccionaria {
     }
     
 
+    // Version que no modifica la lista: copia valores y pesos a arreglos primitivos.
+    // Los indices de la solucion son posiciones en la lista
+    public SolucionFraccionaria resolver(List<Objeto> objetos, int capacidadMochila) {
+        int n = objetos.size();
+        int[] valores = new int[n];
+        int[] pesos = new int[n];
+        for (int i = 0; i < n; i++) {
+            valores[i] = objetos.get(i).valor;
+            pesos[i] = objetos.get(i).peso;
+        }
+        return resolver(valores, pesos, capacidadMochila);
+    }
+
+    // Mismo optimo que obtenerMaximo sin ordenar todo. Las razones valor/peso se comparan
+    // multiplicando en cruzado (sin divisiones). Si la capacidad es chica frente al peso
+    // total solo se ordena el prefijo que entra (heap acotado, O(n log k)); si no, se
+    // particiona alrededor de pivotes al azar como en quickselect (O(n) esperado).
+    // Con razones empatadas el objeto partido puede ser otro, pero el valor es el mismo
+    public SolucionFraccionaria resolver(int[] valores, int[] pesos, int capacidadMochila) {
+        if (valores.length != pesos.length)
+            throw new IllegalArgumentException("valores y pesos deben tener el mismo largo");
+        long pesoTotal = 0;
+        for (int p : pesos) {
+            pesoTotal += p;
+        }
+        if (pesoTotal > (long) capacidadMochila * FACTOR_HEAP)
+            return resolverConHeap(valores, pesos, capacidadMochila);
+        return resolverPorSeleccion(valores, pesos, capacidadMochila);
+    }
+
+    // Particion de tres vias sobre un arreglo de indices: a la izquierda los de mayor razon
+    SolucionFraccionaria resolverPorSeleccion(int[] valores, int[] pesos, int capacidadMochila) {
+        int n = valores.length;
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            idx[i] = i;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long w = capacidadMochila;
+        long valorCompleto = 0;
+        int tomados = 0; // idx[0..tomados) ya entraron completos
+        int lo = 0, hi = n;
+
+        while (lo < hi && w > 0) {
+            int pivote = idx[lo + random.nextInt(hi - lo)];
+            // idx[lo..mayores) razon mayor, [mayores..menores) igual, [menores..hi) menor
+            int mayores = lo, i = lo, menores = hi;
+            while (i < menores) {
+                int c = compararRazon(idx[i], pivote, valores, pesos);
+                if (c > 0) {
+                    swap(idx, i++, mayores++);
+                } else if (c < 0) {
+                    swap(idx, i, --menores);
+                } else {
+                    i++;
+                }
+            }
+
+            long pesoMayores = sumar(pesos, idx, lo, mayores);
+            if (pesoMayores > w) {
+                // El corte esta entre los de mayor razon
+                hi = mayores;
+                continue;
+            }
+            // Entran todos los de mayor razon; seguir con los iguales y luego los menores
+            valorCompleto += sumar(valores, idx, lo, mayores);
+            w -= pesoMayores;
+            int j = mayores;
+            while (j < menores && pesos[idx[j]] <= w) {
+                w -= pesos[idx[j]];
+                valorCompleto += valores[idx[j++]];
+            }
+            if (j < menores) {
+                // Este objeto de la razon del pivote no entra completo: es el partido
+                if (w > 0)
+                    return fraccionar(idx, j, valorCompleto, w, valores, pesos);
+                tomados = j;
+                break;
+            }
+            lo = menores;
+            tomados = lo;
+        }
+        return new SolucionFraccionaria(valorCompleto, Arrays.copyOf(idx, tomados), -1, 0);
+    }
+
+    // Heap de minimos (por razon) que guarda solo los mejores objetos hasta cubrir la capacidad;
+    // al final se ordena ese prefijo y se llena la mochila como en obtenerMaximo
+    SolucionFraccionaria resolverConHeap(int[] valores, int[] pesos, int capacidadMochila) {
+        int[] heap = new int[Math.min(valores.length, 16)];
+        int size = 0;
+        long pesoHeap = 0;
+
+        for (int i = 0; i < valores.length; i++) {
+            if (size == heap.length)
+                heap = Arrays.copyOf(heap, size * 2);
+            heap[size] = i;
+            subir(heap, size++, valores, pesos);
+            pesoHeap += pesos[i];
+            // Sacar el peor mientras el resto siga cubriendo la capacidad
+            while (size > 0 && pesoHeap - pesos[heap[0]] >= capacidadMochila) {
+                pesoHeap -= pesos[heap[0]];
+                heap[0] = heap[--size];
+                bajar(heap, 0, size, valores, pesos);
+            }
+        }
+
+        // Extraer los minimos desde el final: orden queda por razon descendente
+        int[] orden = new int[size];
+        for (int k = size - 1; k >= 0; k--) {
+            orden[k] = heap[0];
+            heap[0] = heap[k];
+            bajar(heap, 0, k, valores, pesos);
+        }
+        long w = capacidadMochila;
+        long valorCompleto = 0;
+        int[] completos = new int[size];
+        int tomados = 0;
+        for (int k = 0; k < size && w > 0; k++) {
+            int o = orden[k];
+            if (pesos[o] > w) {
+                completos[tomados] = o;
+                return fraccionar(completos, tomados, valorCompleto, w, valores, pesos);
+            }
+            w -= pesos[o];
+            valorCompleto += valores[o];
+            completos[tomados++] = o;
+        }
+        return new SolucionFraccionaria(valorCompleto, Arrays.copyOf(completos, tomados), -1, 0);
+    }
+
+    // idx[0..tomados) entran completos e idx[tomados] se parte con la capacidad w que queda
+    private static SolucionFraccionaria fraccionar(int[] idx, int tomados, long valorCompleto, long w,
+                                                   int[] valores, int[] pesos) {
+        int o = idx[tomados];
+        double fraccion = (double) w / pesos[o];
+        return new SolucionFraccionaria(valorCompleto + valores[o] * fraccion,
+                Arrays.copyOf(idx, tomados), o, fraccion);
+    }
+
+    // Compara valores[a]/pesos[a] contra valores[b]/pesos[b] sin dividir
+    private static int compararRazon(int a, int b, int[] valores, int[] pesos) {
+        return Long.compare((long) valores[a] * pesos[b], (long) valores[b] * pesos[a]);
+    }
+
+    private static long sumar(int[] datos, int[] idx, int desde, int hasta) {
+        long s = 0;
+        for (int i = desde; i < hasta; i++) {
+            s += datos[idx[i]];
+        }
+        return s;
+    }
+
+    private static void subir(int[] heap, int i, int[] valores, int[] pesos) {
+        while (i > 0) {
+            int p = (i - 1) / 2;
+            if (compararRazon(heap[p], heap[i], valores, pesos) <= 0) break;
+            swap(heap, i, p);
+            i = p;
+        }
+    }
+
+    private static void bajar(int[] heap, int i, int size, int[] valores, int[] pesos) {
+        while (true) {
+            int min = i, l = 2 * i + 1, r = l + 1;
+            if (l < size && compararRazon(heap[l], heap[min], valores, pesos) < 0) min = l;
+            if (r < size && compararRazon(heap[r], heap[min], valores, pesos) < 0) min = r;
+            if (min == i) return;
+            swap(heap, i, min);
+            i = min;
+        }
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
     public static void main (String [] args){
         List<Objeto>objetos=new ArrayList<>();
         objetos.add(new Objeto("O1",60,10));
@@ -61,6 +227,7 @@ public class MochilaFraccionaria {
         double valorMaximo=mf.obtenerMaximo(objetos,capacidadMochila,   objetosSeleccionados);
         System.out.println("Capacidad de la mochila: "+capacidadMochila);
         System.out.println("Valor maximo que se puede obtener: "+valorMaximo);
+        System.out.println("Sin ordenar la lista: "+mf.resolver(objetos,capacidadMochila));
         System.out.println("Objetos seleccionados:");
         for(Objeto obj:objetosSeleccionados){
             System.out.println("Nombre: "+obj.nombre+" Valor: "+obj.valor+" Peso: "+obj.peso);
@@ -0,0 +1,18 @@
+package punto2.mochilafraccionaria;
+
+class Objeto {
+    String nombre;
+    int valor;
+    int peso;
+
+    public Objeto(String nombre, int valor, int peso) {
+        this.nombre = nombre;
+        this.valor = valor;
+        this.peso = peso;
+    }
+
+    public double getValorPorPeso() {
+        return (double) valor / peso;
+    }
+    
+}
@@ -0,0 +1,44 @@
+package punto2.mochilafraccionaria;
+
+import java.util.Arrays;
+
+// Resultado de la mochila fraccionaria expresado con indices sobre la entrada:
+// objetos tomados completos y, si hace falta, el unico objeto partido con su fraccion
+public class SolucionFraccionaria {
+    private final double valorTotal;
+    private final int[] completos;
+    private final int fraccionado;
+    private final double fraccion;
+
+    SolucionFraccionaria(double valorTotal, int[] completos, int fraccionado, double fraccion) {
+        this.valorTotal = valorTotal;
+        this.completos = completos;
+        this.fraccionado = fraccionado;
+        this.fraccion = fraccion;
+    }
+
+    public double getValorTotal() {
+        return valorTotal;
+    }
+
+    // Indices de los objetos que entran completos (sin orden particular)
+    public int[] getCompletos() {
+        return completos;
+    }
+
+    // Indice del objeto partido, o -1 si no hubo que partir ninguno
+    public int getFraccionado() {
+        return fraccionado;
+    }
+
+    // Fraccion tomada del objeto partido (0 si no hay)
+    public double getFraccion() {
+        return fraccion;
+    }
+
+    @Override
+    public String toString() {
+        return "valor=" + valorTotal + " completos=" + Arrays.toString(completos)
+                + " fraccionado=" + fraccionado + " fraccion=" + fraccion;
+    }
+}
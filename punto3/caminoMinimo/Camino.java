@@ -0,0 +1,24 @@
+package punto3.caminoMinimo;
+
+/**
+ * Costo mínimo y celdas de una ruta óptima en una grilla, desde el origen hasta el destino.
+ * Lo devuelven {@link MinPathSumGridArchivo#caminoOptimo} y {@link MinPathSumGridDial#caminoOptimo}.
+ */
+public final class Camino {
+    private final long costo;
+    private final int[][] celdas;
+
+    Camino(long costo, int[][] celdas) {
+        this.costo = costo;
+        this.celdas = celdas;
+    }
+
+    public long getCosto() {
+        return costo;
+    }
+
+    /** Celdas {i, j} de la ruta en orden, empezando en el origen. */
+    public int[][] getCeldas() {
+        return celdas;
+    }
+}
@@ -2,6 +2,11 @@ package punto3.caminoMinimo;
 // Programación Dinámica en matriz (solo arriba e izquierda)
 // En cada celda (i, j), el costo mínimo depende de min(dp[i-1][j], dp[i][j-1]) + cost[i][j]
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Problema: Dada una matriz de costos no negativos cost[n][m], hallar el costo
  * mínimo para ir desde la celda inicial (0, 0) hasta la celda final (n-1, m-1)
@@ -32,11 +37,19 @@ package punto3.caminoMinimo;
  * Extensiones comunes:
  * - Obstáculos: si una celda es inaccesible, puede marcarse con un valor
  *   especial y saltarse en la transición.
+ *   {@link MinPathSumGridDial} además permite moverse en 4 u 8 direcciones.
  * - Reconstrucción de camino: mantener un arreglo de predecesores para imprimir
  *   la ruta óptima, no solo el costo.
+ *   {@link MinPathSumGridArchivo#caminoOptimo} lo hace en espacio O(m√n) con filas de control.
  */
 public class MinPathSumGrid {
 
+    /** Lado por defecto de los bloques del modo paralelo (256 x 256 celdas caben en L2). */
+    static final int LADO_BLOQUE = 256;
+
+    /** Valor "infinito" para los bordes virtuales; deja margen para sumarle costos sin desbordar. */
+    private static final long INF = Long.MAX_VALUE / 4;
+
     /**
      * Calcula el costo mínimo acumulado para llegar a (n-1, m-1) usando DP 2D.
      * Construye la tabla dp de tamaño n x m donde dp[i][j] guarda el costo mínimo
@@ -132,6 +145,163 @@ public class MinPathSumGrid {
         return dp[m - 1];
     }
 
+    /**
+     * Variante paralela por frente de onda (wavefront) sobre el pool común.
+     *
+     * @param cost matriz de costos (n x m)
+     * @return costo mínimo para llegar a (n-1, m-1), acumulado en long
+     * @see #minPathSumParalelo(int[][], ForkJoinPool, int)
+     */
+    public static long minPathSumParalelo(int[][] cost) {
+        return minPathSumParalelo(cost, ForkJoinPool.commonPool(), LADO_BLOQUE);
+    }
+
+    /**
+     * Variante paralela por frente de onda (wavefront) con bloques de lado fijo.
+     *
+     * La matriz se divide en bloques de lado x lado. Un bloque solo depende del bloque de
+     * arriba (su última fila) y del de la izquierda (su última columna), así que todos los
+     * bloques de una misma antidiagonal (bi + bj = d) son independientes y se resuelven en
+     * paralelo; las antidiagonales se procesan en orden.
+     *
+     * No se guarda la tabla dp: basta con un arreglo "abajo" de tamaño m (última fila
+     * calculada en cada columna) y uno "derecha" de tamaño n (última columna calculada en
+     * cada fila). Los bloques de una antidiagonal tocan filas y columnas disjuntas, por lo
+     * que no hay carreras. Espacio extra O(n + m).
+     *
+     * Dentro de cada fila del bloque primero se suma el costo al valor de arriba (bucle sin
+     * dependencias, vectorizable por el JIT) y luego se hace el barrido de izquierda a
+     * derecha, que sí depende de la celda anterior.
+     *
+     * Los valores se acumulan en long: el resultado coincide con minPathSum1D mientras este
+     * no desborde int.
+     *
+     * @param cost matriz de costos (n x m)
+     * @param pool pool donde se ejecutan los bloques
+     * @param lado lado de los bloques
+     * @return costo mínimo para llegar a (n-1, m-1)
+     */
+    public static long minPathSumParalelo(int[][] cost, ForkJoinPool pool, int lado) {
+        int n = cost.length;
+        if (n == 0) return 0;
+        int m = cost[0].length;
+        if (m == 0) return 0;
+        if (lado < 1) throw new IllegalArgumentException("El lado del bloque debe ser positivo: " + lado);
+
+        long[] abajo = new long[m];
+        long[] derecha = new long[n];
+        Arrays.fill(abajo, INF);
+        Arrays.fill(derecha, INF);
+        // Borde virtual sobre (0, 0) para que dp[0][0] = cost[0][0]
+        abajo[0] = 0;
+
+        pool.invoke(new FrenteDeOnda(cost, abajo, derecha, lado));
+        return abajo[m - 1];
+    }
+
+    /** Recorre las antidiagonales de bloques y lanza en paralelo los bloques de cada una. */
+    private static final class FrenteDeOnda extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] cost;
+        private final long[] abajo, derecha;
+        private final int lado;
+
+        FrenteDeOnda(int[][] cost, long[] abajo, long[] derecha, int lado) {
+            this.cost = cost;
+            this.abajo = abajo;
+            this.derecha = derecha;
+            this.lado = lado;
+        }
+
+        @Override
+        protected void compute() {
+            int filasBloques = (cost.length + lado - 1) / lado;
+            int columnasBloques = (cost[0].length + lado - 1) / lado;
+            for (int d = 0; d < filasBloques + columnasBloques - 1; d++) {
+                int desde = Math.max(0, d - columnasBloques + 1);
+                int hasta = Math.min(d, filasBloques - 1);
+                Bloque[] bloques = new Bloque[hasta - desde + 1];
+                for (int bi = desde; bi <= hasta; bi++) {
+                    bloques[bi - desde] = new Bloque(cost, abajo, derecha, bi * lado, (d - bi) * lado, lado);
+                }
+                invokeAll(bloques);
+            }
+        }
+    }
+
+    /** Resuelve un bloque leyendo y actualizando los bordes compartidos "abajo" y "derecha". */
+    private static final class Bloque extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] cost;
+        private final long[] abajo, derecha;
+        private final int i0, j0, lado;
+
+        Bloque(int[][] cost, long[] abajo, long[] derecha, int i0, int j0, int lado) {
+            this.cost = cost;
+            this.abajo = abajo;
+            this.derecha = derecha;
+            this.i0 = i0;
+            this.j0 = j0;
+            this.lado = lado;
+        }
+
+        @Override
+        protected void compute() {
+            int i1 = Math.min(cost.length, i0 + lado);
+            int j1 = Math.min(cost[0].length, j0 + lado);
+            int ancho = j1 - j0;
+            // Fila móvil local: empieza con la última fila del bloque de arriba
+            long[] dp = new long[ancho];
+            System.arraycopy(abajo, j0, dp, 0, ancho);
+
+            for (int i = i0; i < i1; i++) {
+                int[] fila = cost[i];
+                // Desde arriba: independiente entre columnas
+                for (int j = 0; j < ancho; j++) {
+                    dp[j] += fila[j0 + j];
+                }
+                // Desde la izquierda: depende de la celda anterior
+                long izquierda = derecha[i];
+                for (int j = 0; j < ancho; j++) {
+                    long desdeIzquierda = izquierda + fila[j0 + j];
+                    if (desdeIzquierda < dp[j]) dp[j] = desdeIzquierda;
+                    izquierda = dp[j];
+                }
+                derecha[i] = izquierda;
+            }
+            System.arraycopy(dp, 0, abajo, j0, ancho);
+        }
+    }
+
+    /**
+     * Mide minPathSumParalelo con 1 a 32 hilos sobre una matriz aleatoria n x n y la
+     * compara con minPathSum1D.
+     *
+     * @param n lado de la matriz
+     */
+    static void medirEscalamiento(int n) {
+        Random random = new Random(42);
+        int[][] cost = new int[n][n];
+        for (int[] fila : cost) {
+            for (int j = 0; j < n; j++) {
+                fila[j] = random.nextInt(100);
+            }
+        }
+        long esperado = minPathSum1D(cost);
+
+        for (int hilos = 1; hilos <= 32; hilos *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            minPathSumParalelo(cost, pool, LADO_BLOQUE); // calentamiento
+            long inicio = System.nanoTime();
+            long resultado = minPathSumParalelo(cost, pool, LADO_BLOQUE);
+            long ms = (System.nanoTime() - inicio) / 1_000_000;
+            pool.shutdown();
+            System.out.println(hilos + " hilos: " + ms + " ms" + (resultado == esperado ? "" : " DISTINTO"));
+        }
+    }
+
     public static void main(String[] args) {
         int[][] cost = {
             {1, 3, 1},
@@ -143,6 +313,12 @@ public class MinPathSumGrid {
         int ans1D = minPathSum1D(cost);
         //System.out.println("Costo mínimo (2D): " + ans2D); 
         System.out.println("Costo mínimo (1D): " + ans1D); 
+        System.out.println("Costo mínimo (paralelo): " + minPathSumParalelo(cost, ForkJoinPool.commonPool(), 2));
+
+        // Escalamiento opcional: java punto3.caminoMinimo.MinPathSumGrid <n>
+        if (args.length > 0) {
+            medirEscalamiento(Integer.parseInt(args[0]));
+        }
     }
 }
 
@@ -0,0 +1,229 @@
+package punto3.caminoMinimo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Camino mínimo (derecha/abajo) sobre matrices guardadas en archivo y mapeadas en memoria,
+ * para grillas que no caben en el heap.
+ *
+ * Formato del archivo (little-endian): n (int32), m (int32) y luego los n*m costos int32
+ * fila por fila. El archivo se mapea por segmentos de filas completas, así que las filas
+ * se leen directamente del archivo sin copiarlas a un int[][].
+ *
+ * - {@link #minPathSum(Path)} es la misma DP de una sola fila móvil que
+ *   {@link MinPathSumGrid#minPathSum1D(int[][])}: espacio O(m).
+ * - {@link #caminoOptimo(Path)} además reconstruye la ruta. En lugar de guardar la tabla
+ *   completa (O(n*m)) guarda una fila de control cada k ≈ √n filas. Al retroceder, recalcula
+ *   cada tramo de k filas desde su fila de control y sigue los predecesores dentro del tramo.
+ *   Espacio O(m√n) y aproximadamente el doble de trabajo que solo calcular el costo.
+ */
+public class MinPathSumGridArchivo {
+
+    /** Bytes máximos por segmento mapeado (por debajo del límite de 2 GB de un buffer). */
+    static final long BYTES_POR_SEGMENTO = 1L << 30;
+
+    private static final int BYTES_CABECERA = 8;
+
+    /**
+     * Escribe una matriz de costos en el formato binario que leen los demás métodos.
+     *
+     * @param archivo destino
+     * @param cost    matriz de costos (n x m)
+     * @throws IOException si falla la escritura
+     */
+    public static void escribir(Path archivo, int[][] cost) throws IOException {
+        int n = cost.length;
+        int m = n == 0 ? 0 : cost[0].length;
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BYTES_CABECERA + 4 * m).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(n).putInt(m).flip();
+            escribirTodo(canal, buffer);
+            for (int[] fila : cost) {
+                buffer.clear();
+                for (int c : fila) {
+                    buffer.putInt(c);
+                }
+                buffer.flip();
+                escribirTodo(canal, buffer);
+            }
+        }
+    }
+
+    /**
+     * Costo mínimo leyendo la matriz fila por fila desde el archivo mapeado (espacio O(m)).
+     *
+     * @param archivo matriz en formato binario
+     * @return costo mínimo para llegar a (n-1, m-1); 0 si la matriz es vacía
+     * @throws IOException si el archivo no se puede leer o no tiene el formato esperado
+     */
+    public static long minPathSum(Path archivo) throws IOException {
+        GrillaMapeada grilla = GrillaMapeada.abrir(archivo);
+        int n = grilla.n, m = grilla.m;
+        if (n == 0 || m == 0) return 0;
+
+        long[] dp = new long[m];
+        primeraFila(grilla, dp);
+        for (int i = 1; i < n; ++i) {
+            siguienteFila(grilla, i, dp, dp);
+        }
+        return dp[m - 1];
+    }
+
+    /**
+     * Costo mínimo y ruta óptima usando filas de control cada ≈ √n filas (espacio O(m√n)).
+     * En empates se prefiere venir desde arriba.
+     *
+     * @param archivo matriz en formato binario
+     * @return costo y celdas de la ruta; ruta vacía si la matriz es vacía
+     * @throws IOException si el archivo no se puede leer o no tiene el formato esperado
+     */
+    public static Camino caminoOptimo(Path archivo) throws IOException {
+        GrillaMapeada grilla = GrillaMapeada.abrir(archivo);
+        int n = grilla.n, m = grilla.m;
+        if (n == 0 || m == 0) return new Camino(0, new int[0][]);
+
+        // Pasada hacia adelante guardando la fila dp de las filas 0, k, 2k, ...
+        int k = Math.max(1, (int) Math.ceil(Math.sqrt(n)));
+        long[][] control = new long[(n - 1) / k + 1][];
+        long[] dp = new long[m];
+        primeraFila(grilla, dp);
+        control[0] = dp.clone();
+        for (int i = 1; i < n; ++i) {
+            siguienteFila(grilla, i, dp, dp);
+            if (i % k == 0) control[i / k] = dp.clone();
+        }
+        long costo = dp[m - 1];
+
+        // Hacia atrás, tramo por tramo: se recalculan las filas [c, fin] desde la fila de control c
+        int[][] celdas = new int[n + m - 1][];
+        int pos = celdas.length - 1;
+        int i = n - 1, j = m - 1;
+        long[][] tramo = new long[k + 1][m];
+        for (int t = control.length - 1; t >= 0; t--) {
+            int c = t * k;
+            int fin = Math.min(c + k, n - 1);
+            System.arraycopy(control[t], 0, tramo[0], 0, m);
+            for (int f = c + 1; f <= fin; f++) {
+                siguienteFila(grilla, f, tramo[f - c - 1], tramo[f - c]);
+            }
+
+            // Retroceder mientras la celda actual esté por debajo de la fila de control
+            while (i > c || (c == 0 && j > 0)) {
+                celdas[pos--] = new int[] { i, j };
+                if (i == 0) {
+                    j--;
+                } else if (j == 0 || tramo[i - c - 1][j] <= tramo[i - c][j - 1]) {
+                    i--;
+                } else {
+                    j--;
+                }
+            }
+        }
+        celdas[pos] = new int[] { 0, 0 };
+        return new Camino(costo, celdas);
+    }
+
+    /** dp de la fila 0: solo se puede venir desde la izquierda. */
+    private static void primeraFila(GrillaMapeada grilla, long[] dp) {
+        IntBuffer segmento = grilla.segmento(0);
+        int base = grilla.inicioFila(0);
+        dp[0] = segmento.get(base);
+        for (int j = 1; j < dp.length; ++j) {
+            dp[j] = dp[j - 1] + segmento.get(base + j);
+        }
+    }
+
+    /** dp de la fila i a partir de la fila i-1 (arriba y destino pueden ser el mismo arreglo). */
+    private static void siguienteFila(GrillaMapeada grilla, int i, long[] arriba, long[] destino) {
+        IntBuffer segmento = grilla.segmento(i);
+        int base = grilla.inicioFila(i);
+        destino[0] = arriba[0] + segmento.get(base);
+        for (int j = 1; j < destino.length; ++j) {
+            destino[j] = segmento.get(base + j) + Math.min(arriba[j], destino[j - 1]);
+        }
+    }
+
+    private static void escribirTodo(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    /** Vistas int32 sobre el archivo, un buffer por cada grupo de filas completas. */
+    private static final class GrillaMapeada {
+        final int n, m;
+        final int filasPorSegmento;
+        final IntBuffer[] segmentos;
+
+        private GrillaMapeada(int n, int m, int filasPorSegmento, IntBuffer[] segmentos) {
+            this.n = n;
+            this.m = m;
+            this.filasPorSegmento = filasPorSegmento;
+            this.segmentos = segmentos;
+        }
+
+        static GrillaMapeada abrir(Path archivo) throws IOException {
+            try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+                if (canal.size() < BYTES_CABECERA)
+                    throw new IOException("Archivo demasiado corto para la cabecera: " + archivo);
+                ByteBuffer cabecera = canal.map(FileChannel.MapMode.READ_ONLY, 0, BYTES_CABECERA)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                int n = cabecera.getInt(), m = cabecera.getInt();
+                long bytesFila = 4L * m;
+                if (n < 0 || m < 0 || canal.size() != BYTES_CABECERA + n * bytesFila)
+                    throw new IOException("Tamaño de archivo inconsistente con " + n + " x " + m);
+                if (bytesFila > BYTES_POR_SEGMENTO)
+                    throw new IOException("Fila demasiado larga para mapear: " + m + " columnas");
+                if (n == 0 || m == 0)
+                    return new GrillaMapeada(n, m, 1, new IntBuffer[0]);
+
+                int filasPorSegmento = (int) Math.min(n, BYTES_POR_SEGMENTO / bytesFila);
+                IntBuffer[] segmentos = new IntBuffer[(n + filasPorSegmento - 1) / filasPorSegmento];
+                for (int s = 0; s < segmentos.length; s++) {
+                    long primera = (long) s * filasPorSegmento;
+                    long filas = Math.min(filasPorSegmento, n - primera);
+                    segmentos[s] = canal.map(FileChannel.MapMode.READ_ONLY,
+                            BYTES_CABECERA + primera * bytesFila, filas * bytesFila)
+                            .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+                }
+                // Los buffers mapeados siguen siendo válidos después de cerrar el canal
+                return new GrillaMapeada(n, m, filasPorSegmento, segmentos);
+            }
+        }
+
+        IntBuffer segmento(int i) {
+            return segmentos[i / filasPorSegmento];
+        }
+
+        int inicioFila(int i) {
+            return (i % filasPorSegmento) * m;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[][] cost = {
+            {1, 3, 1},
+            {1, 5, 1},
+            {4, 2, 1}
+        };
+        Path archivo = Files.createTempFile("grilla", ".bin");
+        escribir(archivo, cost);
+
+        System.out.println("Costo mínimo (archivo): " + minPathSum(archivo));
+        Camino camino = caminoOptimo(archivo);
+        StringBuilder ruta = new StringBuilder();
+        for (int[] celda : camino.getCeldas()) {
+            ruta.append("(").append(celda[0]).append(", ").append(celda[1]).append(") ");
+        }
+        System.out.println("Ruta: " + ruta.toString().trim());
+        Files.delete(archivo);
+    }
+}
@@ -0,0 +1,301 @@
+package punto3.caminoMinimo;
+
+import java.util.Arrays;
+
+/**
+ * Camino mínimo en una grilla con movimientos en 4 u 8 direcciones y celdas bloqueadas.
+ *
+ * A diferencia de {@link MinPathSumGrid}, aquí se puede volver hacia arriba o hacia la izquierda,
+ * así que ya no existe un orden fijo de las celdas y la DP pasa a ser un Dijkstra. Como los
+ * costos son enteros chicos y no negativos se usa la cola de Dial: un anillo de C + 1 cubetas
+ * (C = costo máximo de una celda) donde la cubeta d mod (C + 1) guarda las celdas con distancia
+ * tentativa d. Sacar el mínimo es avanzar al siguiente balde no vacío, sin comparaciones ni
+ * heap, y cada celda entra a lo sumo una vez por cada mejora de su distancia.
+ *
+ * Mismo modelo de costo que MinPathSumGrid: el costo de un camino es la suma de los costos de
+ * todas sus celdas, incluyendo origen y destino. Las celdas con costo negativo (por ejemplo
+ * {@link #OBSTACULO}) no se pueden pisar.
+ *
+ * El anillo tiene C + 1 cubetas, así que solo conviene con costos chicos: si C supera
+ * {@link #MAX_CUBETAS} se usa en su lugar un heap binario de (distancia, celda) sobre arreglos
+ * primitivos, con el mismo descarte de entradas viejas.
+ *
+ * Las distancias se guardan en un long[] plano indexado por i*m+j (sin objetos por celda) y la
+ * búsqueda termina apenas se extrae el destino. El arreglo de predecesores solo se reserva si se
+ * pide la ruta.
+ *
+ * Complejidad: O(n*m*k + D) con k = 4 u 8 vecinos y D = distancia al destino; con el heap,
+ * O(n*m*k*log(n*m)). Espacio: 8 bytes por celda más la cola (y 4 bytes por celda si se pide
+ * la ruta).
+ */
+public class MinPathSumGridDial {
+
+    /** Costo que marca una celda bloqueada (cualquier costo negativo también lo es). */
+    public static final int OBSTACULO = -1;
+
+    /** Resultado cuando el destino no es alcanzable. */
+    public static final long INALCANZABLE = -1;
+
+    /** Máximo de cubetas del anillo de Dial; con costos mayores se usa un heap binario. */
+    static final int MAX_CUBETAS = 1 << 16;
+
+    private static final int[] DI4 = { -1, 1, 0, 0 };
+    private static final int[] DJ4 = { 0, 0, -1, 1 };
+    private static final int[] DI8 = { -1, 1, 0, 0, -1, -1, 1, 1 };
+    private static final int[] DJ8 = { 0, 0, -1, 1, -1, 1, -1, 1 };
+
+    /**
+     * Costo mínimo desde (0, 0) hasta (n-1, m-1).
+     *
+     * @param cost        matriz de costos (n x m); negativos = obstáculo
+     * @param diagonales  true para 8 direcciones, false para 4
+     * @return costo mínimo, o {@link #INALCANZABLE}; 0 si la matriz es vacía
+     */
+    public static long minPathSum(int[][] cost, boolean diagonales) {
+        int n = cost.length;
+        if (n == 0 || cost[0].length == 0) return 0;
+        return minPathSum(cost, 0, 0, n - 1, cost[0].length - 1, diagonales);
+    }
+
+    /**
+     * Costo mínimo entre dos celdas cualesquiera.
+     *
+     * @param cost       matriz de costos (n x m); negativos = obstáculo
+     * @param si         fila de origen
+     * @param sj         columna de origen
+     * @param ti         fila de destino
+     * @param tj         columna de destino
+     * @param diagonales true para 8 direcciones, false para 4
+     * @return costo mínimo, o {@link #INALCANZABLE}
+     */
+    public static long minPathSum(int[][] cost, int si, int sj, int ti, int tj, boolean diagonales) {
+        return buscar(cost, si, sj, ti, tj, diagonales, null);
+    }
+
+    /**
+     * Costo mínimo y ruta entre dos celdas.
+     *
+     * @return costo y celdas {i, j} desde el origen hasta el destino, o null si no es alcanzable
+     * @see #minPathSum(int[][], int, int, int, int, boolean)
+     */
+    public static Camino caminoOptimo(int[][] cost, int si, int sj, int ti, int tj,
+            boolean diagonales) {
+        int n = cost.length;
+        int m = n == 0 ? 0 : cost[0].length;
+        int[] previo = new int[n * m];
+        long costo = buscar(cost, si, sj, ti, tj, diagonales, previo);
+        if (costo == INALCANZABLE) return null;
+
+        int largo = 1;
+        int origen = si * m + sj;
+        for (int u = ti * m + tj; u != origen; u = previo[u]) {
+            largo++;
+        }
+        int[][] celdas = new int[largo][];
+        int u = ti * m + tj;
+        for (int k = largo - 1; k >= 0; k--) {
+            celdas[k] = new int[] { u / m, u % m };
+            if (k > 0) u = previo[u];
+        }
+        return new Camino(costo, celdas);
+    }
+
+    /** Dijkstra con cola de Dial (o heap); si previo no es null anota el predecesor de cada celda. */
+    private static long buscar(int[][] cost, int si, int sj, int ti, int tj, boolean diagonales, int[] previo) {
+        int n = cost.length;
+        int m = n == 0 ? 0 : cost[0].length;
+        validar(n, m, si, sj);
+        validar(n, m, ti, tj);
+        if (cost[si][sj] < 0 || cost[ti][tj] < 0) return INALCANZABLE;
+
+        int maximo = 0;
+        for (int[] fila : cost) {
+            for (int c : fila) {
+                maximo = Math.max(maximo, c);
+            }
+        }
+        int[] di = diagonales ? DI8 : DI4;
+        int[] dj = diagonales ? DJ8 : DJ4;
+
+        long[] dist = new long[n * m];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Cola cola = maximo < MAX_CUBETAS ? new ColaDial(maximo + 1) : new ColaHeap();
+
+        int origen = si * m + sj, destino = ti * m + tj;
+        dist[origen] = cost[si][sj];
+        cola.agregar(origen, dist[origen]);
+
+        while (!cola.vacia()) {
+            int u = cola.sacar();
+            long d = cola.distancia();
+            if (dist[u] != d) continue; // entrada vieja, la celda ya mejoró
+            if (u == destino) return d;
+
+            int i = u / m, j = u - i * m;
+            for (int t = 0; t < di.length; t++) {
+                int vi = i + di[t], vj = j + dj[t];
+                if (vi < 0 || vi >= n || vj < 0 || vj >= m) continue;
+                int c = cost[vi][vj];
+                if (c < 0) continue;
+                int v = vi * m + vj;
+                long nd = d + c;
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    if (previo != null) previo[v] = u;
+                    cola.agregar(v, nd);
+                }
+            }
+        }
+        return INALCANZABLE;
+    }
+
+    /** Cola de prioridad de celdas; admite varias entradas por celda (las viejas se descartan al sacarlas). */
+    private interface Cola {
+        void agregar(int u, long d);
+
+        boolean vacia();
+
+        /** Saca una celda de distancia mínima. */
+        int sacar();
+
+        /** Distancia con la que se agregó la última celda sacada. */
+        long distancia();
+    }
+
+    /**
+     * Anillo de Dial: la cubeta d mod anillo guarda las celdas con distancia d. Como cada
+     * distancia nueva está entre la actual y la actual + C, nunca conviven dos distancias
+     * distintas en una misma cubeta.
+     */
+    private static final class ColaDial implements Cola {
+        private final int[][] cubetas;
+        private final int[] tam;
+        private long actual = -1; // distancia de la cubeta que se está vaciando
+        private int pos;          // siguiente entrada a sacar de esa cubeta
+        private long pendientes;
+
+        ColaDial(int anillo) {
+            cubetas = new int[anillo][4];
+            tam = new int[anillo];
+        }
+
+        @Override
+        public void agregar(int u, long d) {
+            if (actual < 0) actual = d;
+            int b = (int) (d % cubetas.length);
+            if (tam[b] == cubetas[b].length) {
+                cubetas[b] = Arrays.copyOf(cubetas[b], tam[b] * 2);
+            }
+            cubetas[b][tam[b]++] = u;
+            pendientes++;
+        }
+
+        @Override
+        public boolean vacia() {
+            return pendientes == 0;
+        }
+
+        @Override
+        public int sacar() {
+            int b = (int) (actual % cubetas.length);
+            // El tamaño se relee en cada vuelta: las celdas de costo 0 caen en la misma cubeta
+            while (pos == tam[b]) {
+                tam[b] = 0;
+                pos = 0;
+                actual++;
+                b = (int) (actual % cubetas.length);
+            }
+            pendientes--;
+            return cubetas[b][pos++];
+        }
+
+        @Override
+        public long distancia() {
+            return actual;
+        }
+    }
+
+    /** Heap binario mínimo de pares (distancia, celda) en arreglos paralelos. */
+    private static final class ColaHeap implements Cola {
+        private long[] clave = new long[16];
+        private int[] celda = new int[16];
+        private int tam;
+        private long ultima;
+
+        @Override
+        public void agregar(int u, long d) {
+            if (tam == clave.length) {
+                clave = Arrays.copyOf(clave, tam * 2);
+                celda = Arrays.copyOf(celda, tam * 2);
+            }
+            // Subir el hueco desde la última hoja
+            int k = tam++;
+            while (k > 0) {
+                int padre = (k - 1) >>> 1;
+                if (clave[padre] <= d) break;
+                clave[k] = clave[padre];
+                celda[k] = celda[padre];
+                k = padre;
+            }
+            clave[k] = d;
+            celda[k] = u;
+        }
+
+        @Override
+        public boolean vacia() {
+            return tam == 0;
+        }
+
+        @Override
+        public int sacar() {
+            int u = celda[0];
+            ultima = clave[0];
+            long d = clave[--tam];
+            int c = celda[tam];
+            // Bajar el hueco de la raíz con el último elemento
+            int k = 0;
+            while (true) {
+                int hijo = 2 * k + 1;
+                if (hijo >= tam) break;
+                if (hijo + 1 < tam && clave[hijo + 1] < clave[hijo]) hijo++;
+                if (clave[hijo] >= d) break;
+                clave[k] = clave[hijo];
+                celda[k] = celda[hijo];
+                k = hijo;
+            }
+            clave[k] = d;
+            celda[k] = c;
+            return u;
+        }
+
+        @Override
+        public long distancia() {
+            return ultima;
+        }
+    }
+
+    private static void validar(int n, int m, int i, int j) {
+        if (i < 0 || i >= n || j < 0 || j >= m)
+            throw new IndexOutOfBoundsException("Celda (" + i + ", " + j + ") fuera de " + n + " x " + m);
+    }
+
+    public static void main(String[] args) {
+        int X = OBSTACULO;
+        int[][] cost = {
+            {1, 1, 1, 1},
+            {X, X, X, 1},
+            {1, 1, 1, 1},
+            {1, X, X, X},
+            {1, 1, 1, 1}
+        };
+        System.out.println("4 direcciones: " + minPathSum(cost, false)); // 14
+        System.out.println("8 direcciones: " + minPathSum(cost, true));  // 10
+
+        Camino camino = caminoOptimo(cost, 0, 0, 4, 3, true);
+        StringBuilder ruta = new StringBuilder();
+        for (int[] celda : camino.getCeldas()) {
+            ruta.append("(").append(celda[0]).append(", ").append(celda[1]).append(") ");
+        }
+        System.out.println("Ruta: " + ruta.toString().trim());
+    }
+}
@@ -0,0 +1,170 @@
+package punto3.caminoMinimo;
+
+import java.util.Arrays;
+
+/**
+ * Camino mínimo (derecha/abajo) con estado, para grillas cuyos costos cambian de a pocas celdas.
+ *
+ * Guarda la tabla dp completa (en un long[] plano indexado por i*m+j) y los costos. Al cambiar
+ * el costo de una celda solo pueden cambiar las celdas de abajo y de la derecha, así que en vez
+ * de recalcular toda la matriz se propaga el cambio fila por fila: en cada fila solo se
+ * recalculan las columnas cuyo costo cambió, las que cambiaron en la fila de arriba y, en
+ * cadena, las que siguen a la derecha de una celda que cambió. Cuando una celda recalculada
+ * conserva su valor la propagación se corta ahí.
+ *
+ * Varias actualizaciones se pueden aplicar juntas con {@link #updateCosts(int[], int[], int[])},
+ * que las ordena y las resuelve en un solo barrido. Las consultas son O(1).
+ */
+public class MinPathSumGridIncremental {
+
+    private final int n, m;
+    private final int[] cost;
+    private final long[] dp;
+
+    // Columnas a revisar en la fila actual y columnas que cambiaron en la anterior / actual
+    private int[] candidatas;
+    private int[] cambiadasArriba;
+    private int[] cambiadasFila;
+
+    /**
+     * Construye el estado inicial con la misma recurrencia que {@link MinPathSumGrid#minPathSum}.
+     *
+     * @param cost matriz de costos (n x m, n > 0 y m > 0); se copia
+     */
+    public MinPathSumGridIncremental(int[][] cost) {
+        n = cost.length;
+        if (n == 0 || cost[0].length == 0)
+            throw new IllegalArgumentException("La matriz debe tener al menos una celda");
+        m = cost[0].length;
+        this.cost = new int[n * m];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(cost[i], 0, this.cost, i * m, m);
+        }
+        dp = new long[n * m];
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < m; ++j) {
+                dp[i * m + j] = calcular(i, j);
+            }
+        }
+        candidatas = new int[m];
+        cambiadasArriba = new int[m];
+        cambiadasFila = new int[m];
+    }
+
+    /** @return costo mínimo para llegar a (n-1, m-1) */
+    public long minimo() {
+        return dp[n * m - 1];
+    }
+
+    /** @return costo mínimo para llegar a (i, j) */
+    public long costoHasta(int i, int j) {
+        return dp[indice(i, j)];
+    }
+
+    /**
+     * Cambia el costo de una celda y propaga el cambio.
+     *
+     * @param i     fila
+     * @param j     columna
+     * @param nuevo nuevo costo de (i, j)
+     */
+    public void updateCost(int i, int j, int nuevo) {
+        updateCosts(new int[] { i }, new int[] { j }, new int[] { nuevo });
+    }
+
+    /**
+     * Aplica varios cambios de costo y los propaga en un único barrido de arriba hacia abajo.
+     * Si una celda aparece más de una vez queda el último costo.
+     *
+     * @param filas    filas de las celdas
+     * @param columnas columnas de las celdas
+     * @param nuevos   nuevos costos
+     */
+    public void updateCosts(int[] filas, int[] columnas, int[] nuevos) {
+        int k = filas.length;
+        if (columnas.length != k || nuevos.length != k)
+            throw new IllegalArgumentException("filas, columnas y nuevos deben tener el mismo largo");
+
+        // Aplicar costos y ordenar las celdas por (fila, columna) sin repetidos
+        long[] celdas = new long[k];
+        for (int t = 0; t < k; t++) {
+            int idx = indice(filas[t], columnas[t]);
+            cost[idx] = nuevos[t];
+            celdas[t] = idx;
+        }
+        Arrays.sort(celdas);
+
+        int arriba = 0; // cantidad de columnas que cambiaron en la fila anterior
+        int t = 0;
+        int i = k == 0 ? n : (int) (celdas[0] / m);
+        while (i < n) {
+            // Candidatas: columnas actualizadas en esta fila unidas a las que cambiaron arriba
+            int c = 0, a = 0;
+            while (t < k && celdas[t] / m == i) {
+                int j = (int) (celdas[t++] % m);
+                while (a < arriba && cambiadasArriba[a] < j) candidatas[c++] = cambiadasArriba[a++];
+                if (a < arriba && cambiadasArriba[a] == j) a++;
+                if (c == 0 || candidatas[c - 1] != j) candidatas[c++] = j;
+            }
+            while (a < arriba) candidatas[c++] = cambiadasArriba[a++];
+
+            // Recorrer las candidatas en orden, siguiendo la cadena hacia la derecha
+            int cambiadas = 0;
+            int p = 0;
+            int j = c > 0 ? candidatas[0] : m;
+            while (j < m) {
+                int idx = i * m + j;
+                long valor = calcular(i, j);
+                boolean cambio = valor != dp[idx];
+                dp[idx] = valor;
+                if (cambio) cambiadasFila[cambiadas++] = j;
+                while (p < c && candidatas[p] <= j) p++;
+                if (cambio && j + 1 < m) j = j + 1;
+                else j = p < c ? candidatas[p] : m;
+            }
+
+            int[] tmp = cambiadasArriba;
+            cambiadasArriba = cambiadasFila;
+            cambiadasFila = tmp;
+            arriba = cambiadas;
+
+            // Sin cambios que bajar: saltar a la próxima fila con actualizaciones
+            if (arriba == 0) {
+                i = t < k ? (int) (celdas[t] / m) : n;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    // Recurrencia de minPathSum con los bordes de la primera fila y la primera columna
+    private long calcular(int i, int j) {
+        int idx = i * m + j;
+        if (i == 0 && j == 0) return cost[idx];
+        if (i == 0) return dp[idx - 1] + cost[idx];
+        if (j == 0) return dp[idx - m] + cost[idx];
+        return cost[idx] + Math.min(dp[idx - m], dp[idx - 1]);
+    }
+
+    private int indice(int i, int j) {
+        if (i < 0 || i >= n || j < 0 || j >= m)
+            throw new IndexOutOfBoundsException("Celda (" + i + ", " + j + ") fuera de " + n + " x " + m);
+        return i * m + j;
+    }
+
+    public static void main(String[] args) {
+        int[][] cost = {
+            {1, 3, 1},
+            {1, 5, 1},
+            {4, 2, 1}
+        };
+        MinPathSumGridIncremental grilla = new MinPathSumGridIncremental(cost);
+        System.out.println("Costo mínimo: " + grilla.minimo()); // 7
+
+        grilla.updateCost(0, 1, 0);
+        System.out.println("Tras bajar (0, 1) a 0: " + grilla.minimo()); // 4
+
+        grilla.updateCosts(new int[] { 0, 1 }, new int[] { 2, 2 }, new int[] { 9, 9 });
+        System.out.println("Tras encarecer la columna derecha: " + grilla.minimo() + ", hasta (1, 1): " + grilla.costoHasta(1, 1)); // 9, 6
+    }
+}
@@ -0,0 +1,152 @@
+package punto3.problemaMochila;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caché LRU de instancias {@link MochilaIncremental} indexadas por el conjunto de objetos.
+ *
+ * Pensada para llamadas repetidas como las de GfG_Tabulation.knapsack sobre los mismos objetos:
+ * - Mismos objetos y capacidad <= la ya calculada: se lee la fila guardada, O(1).
+ * - Mismos objetos más uno al final: se toma la instancia del prefijo y se le agrega el objeto,
+ *   O(W) en vez de O(n*W).
+ * - Cualquier otro caso: se crea la instancia (O(n*W)) y se guarda.
+ *
+ * La clave es el contenido de los arreglos val y wt (se hashean una vez y se comparan completos
+ * ante colisiones). Las entradas se ordenan por último acceso y se desalojan las más antiguas
+ * cuando la memoria estimada de las filas supera el tope. Los métodos son sincronizados.
+ */
+class CacheMochila {
+
+    private final long maxBytes;
+    private final LinkedHashMap<Clave, MochilaIncremental> instancias = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @param maxBytes memoria máxima aproximada de las filas guardadas
+     */
+    CacheMochila(long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes debe ser positivo: " + maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Valor máximo de la mochila 0/1, reutilizando filas ya calculadas cuando es posible.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    synchronized long knapsack(int W, int[] val, int[] wt) {
+        if (val.length != wt.length)
+            throw new IllegalArgumentException("val y wt deben tener el mismo largo");
+        if (W < 0) return 0;
+        int n = val.length;
+
+        MochilaIncremental mochila = instancias.get(new Clave(val, wt, n));
+        if (mochila != null && mochila.capacidad() >= W) {
+            return mochila.valor(W);
+        }
+
+        if (mochila == null && n > 0) {
+            // ¿Está el mismo conjunto sin el último objeto? Se extiende en O(W)
+            MochilaIncremental prefijo = instancias.get(new Clave(val, wt, n - 1));
+            if (prefijo != null && prefijo.capacidad() >= W) {
+                quitar(new Clave(val, wt, n - 1));
+                prefijo.agregarObjeto(val[n - 1], wt[n - 1]);
+                guardar(Clave.copia(val, wt), prefijo);
+                return prefijo.valor(W);
+            }
+        }
+
+        // Sin fila reutilizable (o con capacidad insuficiente): se calcula de nuevo
+        if (mochila != null) quitar(new Clave(val, wt, n));
+        mochila = new MochilaIncremental(W, val, wt);
+        guardar(Clave.copia(val, wt), mochila);
+        return mochila.valor(W);
+    }
+
+    /** @return cantidad de instancias guardadas */
+    synchronized int size() {
+        return instancias.size();
+    }
+
+    /** @return memoria estimada de las instancias guardadas, en bytes */
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    private void guardar(Clave clave, MochilaIncremental mochila) {
+        instancias.put(clave, mochila);
+        bytes += mochila.bytes();
+
+        // Desalojar las menos usadas, pero nunca la que se acaba de guardar
+        Iterator<Map.Entry<Clave, MochilaIncremental>> it = instancias.entrySet().iterator();
+        while (bytes > maxBytes && instancias.size() > 1) {
+            Map.Entry<Clave, MochilaIncremental> masVieja = it.next();
+            bytes -= masVieja.getValue().bytes();
+            it.remove();
+        }
+    }
+
+    private void quitar(Clave clave) {
+        MochilaIncremental mochila = instancias.remove(clave);
+        if (mochila != null) bytes -= mochila.bytes();
+    }
+
+    /** Los primeros n objetos de val y wt; solo se copian al guardarse en la caché. */
+    private static final class Clave {
+        private final int[] val, wt;
+        private final int n;
+        private final int hash;
+
+        Clave(int[] val, int[] wt, int n) {
+            this.val = val;
+            this.wt = wt;
+            this.n = n;
+            int h = n;
+            for (int i = 0; i < n; i++) {
+                h = 31 * h + val[i];
+                h = 31 * h + wt[i];
+            }
+            this.hash = h;
+        }
+
+        static Clave copia(int[] val, int[] wt) {
+            return new Clave(val.clone(), wt.clone(), val.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Clave)) return false;
+            Clave otra = (Clave) o;
+            return hash == otra.hash && n == otra.n
+                    && Arrays.equals(val, 0, n, otra.val, 0, n)
+                    && Arrays.equals(wt, 0, n, otra.wt, 0, n);
+        }
+    }
+
+    /**
+     * Ejemplo de uso: consultas repetidas sobre los mismos objetos y con un objeto más.
+     */
+    public static void main(String[] args) {
+        CacheMochila cache = new CacheMochila(64L << 20);
+        int[] val = { 2, 5, 10, 14, 15 };
+        int[] wt = { 1, 3, 4, 5, 7 };
+        System.out.println(cache.knapsack(8, val, wt)); // 19, calcula la fila
+        System.out.println(cache.knapsack(4, val, wt)); // 10, O(1)
+
+        int[] val2 = { 2, 5, 10, 14, 15, 9 };
+        int[] wt2 = { 1, 3, 4, 5, 7, 2 };
+        System.out.println(cache.knapsack(8, val2, wt2)); // 25, extiende la fila en O(W)
+        System.out.println(cache.size() + " instancia(s), " + cache.bytes() + " bytes");
+    }
+}
@@ -1,5 +1,7 @@
 package punto3.problemaMochila;
 
+import java.util.Arrays;
+
 /**
  * Resolución del problema clásico de la Mochila (0/1 Knapsack Problem)
  * utilizando Programación Dinámica con Memoización (top-down).
@@ -27,6 +29,17 @@ package punto3.problemaMochila;
  *   - wt[]: pesos de los objetos.
  *   - n: índice actual de objeto a considerar (elementos 0 ... n-1).
  *   - memo: tabla memoizadora de soluciones parciales, dimensiones (n+1) x (W+1).
+ *
+ * Variante dispersa (knapsackIterativo):
+ *   La recursión top-down suele visitar una fracción mínima de los (n+1) x (W+1) estados, pero
+ *   la tabla densa se reserva e inicializa completa, y la recursión de n niveles desborda la pila
+ *   para n grande. knapsackIterativo recorre los mismos estados con una pila explícita y guarda
+ *   la memoización en una tabla hash de claves long (n y W empaquetados), sin objetos por entrada.
+ *   La tabla crece con los estados alcanzados hasta un tope y nunca desaloja entradas: un estado
+ *   olvidado mientras sus llamadas padre siguen en la pila se recalcularía junto con todo su
+ *   subárbol, y el tiempo crecería exponencialmente. Si los estados alcanzables no caben en el
+ *   tope, se abandona la recursión y se resuelve con GfG_Tabulation.knapsack1D, O(n*W) en tiempo
+ *   y O(W) en espacio. Así el costo total es O(min(estados, tope) + n*W) en el peor caso.
  * 
  * @author GeekForGeeks
  */
@@ -92,6 +105,215 @@ class GfG_Memoization {
         return knapsackRec(W, val, wt, n, memo);
     }
 
+    /** Tope por defecto de entradas en la memoización dispersa (16 bytes por entrada). */
+    static final int MAX_ENTRADAS_MEMO = 1 << 22;
+
+    /**
+     * Misma recurrencia que {@link #knapsackRec}, sin recursión y con memoización dispersa.
+     *
+     * @param W   Capacidad total de la mochila.
+     * @param val Valores de los objetos.
+     * @param wt  Pesos de los objetos.
+     * @return    Valor máximo que se puede obtener (en long).
+     */
+    static long knapsackIterativo(int W, int[] val, int[] wt) {
+        return knapsackIterativo(W, val, wt, MAX_ENTRADAS_MEMO);
+    }
+
+    /**
+     * Versión top-down con pila explícita y memoización en una tabla hash acotada.
+     *
+     * Cada marco de la pila representa una llamada knapsackRec(W, n) y recuerda en qué etapa
+     * quedó: 0 = recién llamada, 1 = esperando el resultado de "tomar" el objeto n-1,
+     * 2 = esperando el resultado de "no tomarlo". El resultado de cada llamada se le pasa al
+     * marco de abajo en una variable, no a través de la memo. La pila tiene a lo sumo n+1 marcos.
+     *
+     * Cada estado se resuelve una sola vez. Si la memo llega a su tope y no puede guardar un
+     * estado más, se devuelve GfG_Tabulation.knapsack1D(W, val, wt) en lugar de seguir.
+     *
+     * @param W           Capacidad total de la mochila.
+     * @param val         Valores de los objetos.
+     * @param wt          Pesos de los objetos.
+     * @param maxEntradas Tope de entradas de la memoización; al superarlo se usa knapsack1D.
+     * @return            Valor máximo que se puede obtener (en long).
+     */
+    static long knapsackIterativo(int W, int[] val, int[] wt, int maxEntradas) {
+        int n = val.length;
+        MemoDispersa memo = new MemoDispersa(maxEntradas);
+
+        // Marcos de la pila: objetos restantes, capacidad restante, etapa y valor de "tomar"
+        int[] pilaN = new int[n + 1];
+        int[] pilaW = new int[n + 1];
+        byte[] etapa = new byte[n + 1];
+        long[] pick = new long[n + 1];
+        int tope = 0;
+        pilaN[0] = n;
+        pilaW[0] = W;
+        etapa[0] = 0;
+        long resultado = 0; // valor devuelto por el último marco que terminó
+
+        while (tope >= 0) {
+            int k = pilaN[tope], w = pilaW[tope];
+            switch (etapa[tope]) {
+                case 0: {
+                    // Caso base o subproblema ya calculado: se devuelve directamente
+                    if (k == 0 || w == 0) {
+                        resultado = 0;
+                        tope--;
+                        break;
+                    }
+                    long clave = MemoDispersa.clave(k, w);
+                    long guardado = memo.get(clave);
+                    if (guardado != MemoDispersa.AUSENTE) {
+                        resultado = guardado;
+                        tope--;
+                        break;
+                    }
+                    if (wt[k - 1] <= w) {
+                        // Primero se resuelve "tomar": (n-1, W - wt[n-1])
+                        etapa[tope] = 1;
+                        apilar(pilaN, pilaW, etapa, ++tope, k - 1, w - wt[k - 1]);
+                    } else {
+                        // No cabe: "tomar" vale 0 y se pasa directo a "no tomar"
+                        pick[tope] = 0;
+                        etapa[tope] = 2;
+                        apilar(pilaN, pilaW, etapa, ++tope, k - 1, w);
+                    }
+                    break;
+                }
+                case 1:
+                    // Volvió "tomar": se guarda y se resuelve "no tomar": (n-1, W)
+                    pick[tope] = val[k - 1] + resultado;
+                    etapa[tope] = 2;
+                    apilar(pilaN, pilaW, etapa, ++tope, k - 1, w);
+                    break;
+                default:
+                    // Volvió "no tomar": se elige la mejor opción y se memoriza
+                    resultado = Math.max(pick[tope], resultado);
+                    if (!memo.put(MemoDispersa.clave(k, w), resultado)) {
+                        // Memo llena: seguir sin memoizar sería exponencial
+                        return GfG_Tabulation.knapsack1D(W, val, wt);
+                    }
+                    tope--;
+                    break;
+            }
+        }
+        return resultado;
+    }
+
+    private static void apilar(int[] pilaN, int[] pilaW, byte[] etapa, int tope, int k, int w) {
+        pilaN[tope] = k;
+        pilaW[tope] = w;
+        etapa[tope] = 0;
+    }
+
+    /**
+     * Tabla hash de direccionamiento abierto (sondeo lineal) de claves long a valores long.
+     *
+     * Empieza chica y duplica su capacidad cuando se llena a la mitad, hasta maxEntradas.
+     * Cada búsqueda mira a lo sumo SONDEO casillas. Si al insertar están todas ocupadas por otras
+     * claves, la tabla se agranda; si ya está en su capacidad máxima, put devuelve false y la
+     * clave no se guarda. Nunca se desaloja una entrada ya guardada.
+     */
+    static final class MemoDispersa {
+        static final long AUSENTE = Long.MIN_VALUE;
+        private static final long VACIA = -1L;
+        private static final int SONDEO = 8;
+        private static final int CAPACIDAD_INICIAL = 1 << 10;
+
+        private final int maxCapacidad;
+        private long[] claves;
+        private long[] valores;
+        private int tam;
+
+        MemoDispersa(int maxEntradas) {
+            if (maxEntradas < 1) throw new IllegalArgumentException("maxEntradas debe ser positivo: " + maxEntradas);
+            int max = Integer.highestOneBit(Math.min(maxEntradas, 1 << 30));
+            maxCapacidad = max < maxEntradas ? max << 1 : max;
+            crear(Math.min(CAPACIDAD_INICIAL, maxCapacidad));
+        }
+
+        // n en los 32 bits altos y W en los bajos; n >= 1 así que nunca coincide con VACIA
+        static long clave(int n, int W) {
+            return ((long) n << 32) | (W & 0xFFFFFFFFL);
+        }
+
+        long get(long clave) {
+            int mascara = claves.length - 1;
+            int pos = hash(clave) & mascara;
+            for (int s = 0; s < SONDEO; s++) {
+                long c = claves[pos];
+                if (c == clave) return valores[pos];
+                if (c == VACIA) return AUSENTE;
+                pos = (pos + 1) & mascara;
+            }
+            return AUSENTE;
+        }
+
+        /** @return false si la tabla está en su tope y no hay lugar para la clave */
+        boolean put(long clave, long valor) {
+            if (tam * 2 >= claves.length && claves.length < maxCapacidad && !agrandar()) {
+                return false;
+            }
+            while (!insertar(clave, valor)) {
+                if (claves.length >= maxCapacidad || !agrandar()) return false;
+            }
+            return true;
+        }
+
+        int size() {
+            return tam;
+        }
+
+        private boolean insertar(long clave, long valor) {
+            int mascara = claves.length - 1;
+            int pos = hash(clave) & mascara;
+            for (int s = 0; s < SONDEO; s++) {
+                long c = claves[pos];
+                if (c == clave || c == VACIA) {
+                    if (c == VACIA) tam++;
+                    claves[pos] = clave;
+                    valores[pos] = valor;
+                    return true;
+                }
+                pos = (pos + 1) & mascara;
+            }
+            return false; // vecindario lleno
+        }
+
+        // Si al redistribuir un vecindario se llena, se vuelve a duplicar; devuelve false si ni
+        // en maxCapacidad entran todas las claves (la tabla queda como estaba)
+        private boolean agrandar() {
+            long[] viejasClaves = claves, viejosValores = valores;
+            int viejoTam = tam;
+            for (int capacidad = claves.length; capacidad < maxCapacidad; ) {
+                capacidad *= 2;
+                crear(capacidad);
+                boolean completo = true;
+                for (int i = 0; i < viejasClaves.length && completo; i++) {
+                    if (viejasClaves[i] != VACIA) completo = insertar(viejasClaves[i], viejosValores[i]);
+                }
+                if (completo) return true;
+            }
+            claves = viejasClaves;
+            valores = viejosValores;
+            tam = viejoTam;
+            return false;
+        }
+
+        private void crear(int capacidad) {
+            claves = new long[capacidad];
+            valores = new long[capacidad];
+            Arrays.fill(claves, VACIA);
+            tam = 0;
+        }
+
+        private static int hash(long clave) {
+            long h = clave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
     /**
      * Ejemplo de uso del algoritmo.
      * Prueba el algoritmo con 3 objetos con valores y pesos dados y una
@@ -107,5 +329,8 @@ class GfG_Memoization {
 
         // Ejecuta el algoritmo y muestra el resultado óptimo por consola
         System.out.println(knapsack(W, val, wt));
+
+        // Misma respuesta sin recursión y con memoización dispersa
+        System.out.println(knapsackIterativo(W, val, wt));
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package punto3.problemaMochila;
 
+import java.util.Arrays;
+
 /**
  * Resolución del problema de la Mochila 0/1 (Knapsack Problem) usando Programación Dinámica con tabulación (enfoque bottom-up).
  *
@@ -28,7 +30,10 @@ package punto3.problemaMochila;
  *
  * --- EXTENSIONES Y OBSERVACIONES ---
  * - Esta misma tabla puede usarse, si se desea, para recuperar qué objetos componen la solución óptima siguiendo los valores registrados.
- * - Si solo se desea el valor y no el subconjunto, se puede reducir el espacio a O(W) usando un array unidimensional.
+ * - Si solo se desea el valor y no el subconjunto, se puede reducir el espacio a O(W) usando un array unidimensional
+ *   (ver knapsack1D).
+ * - Para recuperar los objetos sin guardar la tabla completa, objetosOptimos divide los objetos en dos mitades
+ *   y busca cómo repartir la capacidad entre ellas (estilo Hirschberg): espacio O(W) y cerca del doble de tiempo.
  *
  * @author GeekForGeeks
  */
@@ -75,6 +80,105 @@ class GfG_Tabulation {
         return dp[n][W];
     }
 
+    /**
+     * Misma recurrencia que {@link #knapsack} pero guardando una sola fila dp de tamaño W+1.
+     *
+     * Al procesar el objeto i, dp[j] todavía contiene el valor de la fila i-1. Si j se recorre
+     * de mayor a menor, dp[j - wt] tampoco fue actualizado en esta pasada, así que cada objeto
+     * se usa a lo sumo una vez. Los valores se acumulan en long para que sumas grandes no desborden.
+     *
+     * Tiempo O(n*W), espacio O(W).
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    static long knapsack1D(int W, int[] val, int[] wt) {
+        long[] dp = new long[W + 1];
+        for (int i = 0; i < wt.length; i++) {
+            int peso = wt[i];
+            long valor = val[i];
+            // De derecha a izquierda: dp[j - peso] sigue siendo de la fila anterior
+            for (int j = W; j >= peso; j--) {
+                dp[j] = Math.max(dp[j], dp[j - peso] + valor);
+            }
+        }
+        return dp[W];
+    }
+
+    /**
+     * Recupera qué objetos forman una solución óptima usando espacio O(W).
+     *
+     * Divide y vencerás sobre los objetos: para el rango [lo, hi) con capacidad C se calcula la
+     * fila final de la mitad izquierda y la de la mitad derecha (con knapsack1D sobre cada una).
+     * La capacidad c que maximiza izq[c] + der[C - c] indica cuánto le corresponde a cada mitad
+     * en alguna solución óptima, y se resuelve cada mitad por separado con esa capacidad.
+     *
+     * En cada nivel de la recursión las capacidades de los subproblemas suman a lo sumo W y los
+     * objetos se reparten a la mitad, así que el trabajo total es cerca de 2*n*W. Las dos filas
+     * auxiliares se reservan una sola vez y se reutilizan en toda la recursión.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @return     Índices (ascendentes) de los objetos elegidos; sus valores suman knapsack1D(W, val, wt)
+     */
+    static int[] objetosOptimos(int W, int[] val, int[] wt) {
+        int n = wt.length;
+        boolean[] elegido = new boolean[n];
+        elegir(val, wt, 0, n, W, elegido, new long[W + 1], new long[W + 1]);
+
+        int[] indices = new int[n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (elegido[i]) indices[k++] = i;
+        }
+        return Arrays.copyOf(indices, k);
+    }
+
+    // Marca en 'elegido' una solución óptima para los objetos [lo, hi) con capacidad C
+    private static void elegir(int[] val, int[] wt, int lo, int hi, int C, boolean[] elegido,
+            long[] izquierda, long[] derecha) {
+        if (lo >= hi) return;
+        if (hi - lo == 1) {
+            // Caso base: un único objeto, se toma si cabe y aporta algo
+            elegido[lo] = wt[lo] <= C && val[lo] > 0;
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        filaFinal(val, wt, lo, mid, C, izquierda);
+        filaFinal(val, wt, mid, hi, C, derecha);
+
+        // Mejor reparto de la capacidad entre las dos mitades
+        int corte = 0;
+        long mejor = -1;
+        for (int c = 0; c <= C; c++) {
+            long total = izquierda[c] + derecha[C - c];
+            if (total > mejor) {
+                mejor = total;
+                corte = c;
+            }
+        }
+
+        // Las filas ya no hacen falta: las mitades pueden reutilizarlas
+        elegir(val, wt, lo, mid, corte, elegido, izquierda, derecha);
+        elegir(val, wt, mid, hi, C - corte, elegido, izquierda, derecha);
+    }
+
+    // dp[0..C] con los objetos [lo, hi), igual que knapsack1D
+    private static void filaFinal(int[] val, int[] wt, int lo, int hi, int C, long[] dp) {
+        Arrays.fill(dp, 0, C + 1, 0);
+        for (int i = lo; i < hi; i++) {
+            int peso = wt[i];
+            long valor = val[i];
+            for (int j = C; j >= peso; j--) {
+                dp[j] = Math.max(dp[j], dp[j - peso] + valor);
+            }
+        }
+    }
+
     /**
      * Ejemplo de uso del algoritmo para la mochila.
      * Se prueba con 3 objetos de valores y pesos determinados y capacidad de 4.
@@ -89,5 +193,9 @@ class GfG_Tabulation {
         
         // Ejecutar y mostrar el resultado óptimo
         System.out.println(knapsack(W, val, wt));
+
+        // Misma respuesta con una sola fila, y los objetos que la forman
+        System.out.println(knapsack1D(W, val, wt));
+        System.out.println(Arrays.toString(objetosOptimos(W, val, wt)));
     }
 }
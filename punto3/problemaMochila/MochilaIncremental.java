@@ -0,0 +1,119 @@
+package punto3.problemaMochila;
+
+import java.util.Arrays;
+
+/**
+ * Mochila 0/1 con estado: guarda la última fila de la DP para reutilizarla entre consultas.
+ *
+ * --- IDEA ---
+ * Después de procesar los n objetos, la fila dp de knapsack1D (tamaño W+1) contiene en dp[j]
+ * el valor máximo con capacidad j, para todo j <= W, no solo para W. Por eso:
+ * - Consultar cualquier capacidad W' <= W es leer dp[W']: O(1).
+ * - Agregar un objeto es aplicar una pasada más de la recurrencia sobre la misma fila
+ *   (j de mayor a menor): O(W), en lugar de recalcular los n+1 objetos: O((n+1)*W).
+ * - Consultar una capacidad mayor que W obliga a recalcular la fila con la nueva capacidad,
+ *   para lo cual se guardan los objetos agregados.
+ *
+ * --- COMPLEJIDAD ---
+ *   - valor(c) con c <= W: O(1)
+ *   - agregarObjeto: O(W)
+ *   - Espacio: O(W + n)
+ */
+class MochilaIncremental {
+
+    private long[] dp;
+    private int[] val;
+    private int[] wt;
+    private int n;
+
+    /**
+     * Crea la fila para los objetos dados y capacidad máxima W.
+     *
+     * @param W    Capacidad máxima que se podrá consultar en O(1)
+     * @param val  Valores de los objetos (se copian)
+     * @param wt   Pesos de los objetos (se copian)
+     */
+    MochilaIncremental(int W, int[] val, int[] wt) {
+        if (val.length != wt.length)
+            throw new IllegalArgumentException("val y wt deben tener el mismo largo");
+        if (W < 0) throw new IllegalArgumentException("La capacidad no puede ser negativa: " + W);
+        this.val = Arrays.copyOf(val, Math.max(4, val.length));
+        this.wt = Arrays.copyOf(wt, Math.max(4, wt.length));
+        this.n = val.length;
+        recalcular(W);
+    }
+
+    /** @return capacidad máxima que se responde sin recalcular */
+    int capacidad() {
+        return dp.length - 1;
+    }
+
+    /** @return cantidad de objetos agregados */
+    int cantidad() {
+        return n;
+    }
+
+    /**
+     * Valor máximo con capacidad c. Si c supera la capacidad actual la fila se recalcula
+     * con capacidad c (O(n*c)) y las consultas siguientes vuelven a ser O(1).
+     *
+     * @param c capacidad de la mochila
+     * @return  valor máximo que se puede obtener sin exceder c
+     */
+    long valor(int c) {
+        if (c < 0) return 0;
+        if (c > capacidad()) recalcular(c);
+        return dp[c];
+    }
+
+    /**
+     * Agrega un objeto actualizando la fila en una sola pasada.
+     *
+     * @param v valor del objeto
+     * @param w peso del objeto
+     */
+    void agregarObjeto(int v, int w) {
+        if (n == val.length) {
+            val = Arrays.copyOf(val, n * 2);
+            wt = Arrays.copyOf(wt, n * 2);
+        }
+        val[n] = v;
+        wt[n] = w;
+        n++;
+        aplicar(dp, capacidad(), v, w);
+    }
+
+    /** @return memoria aproximada que ocupa la fila y los objetos, en bytes */
+    long bytes() {
+        return 8L * dp.length + 4L * (val.length + wt.length);
+    }
+
+    // Vuelve a correr knapsack1D sobre todos los objetos con capacidad W
+    private void recalcular(int W) {
+        dp = new long[W + 1];
+        for (int i = 0; i < n; i++) {
+            aplicar(dp, W, val[i], wt[i]);
+        }
+    }
+
+    // Una fila de la recurrencia, de derecha a izquierda como en knapsack1D
+    private static void aplicar(long[] dp, int W, long valor, int peso) {
+        for (int j = W; j >= peso; j--) {
+            dp[j] = Math.max(dp[j], dp[j - peso] + valor);
+        }
+    }
+
+    /**
+     * Ejemplo de uso: varias capacidades sobre los mismos objetos y un objeto agregado después.
+     */
+    public static void main(String[] args) {
+        int[] val = { 2, 5, 10, 14, 15 };
+        int[] wt = { 1, 3, 4, 5, 7 };
+        MochilaIncremental mochila = new MochilaIncremental(8, val, wt);
+        System.out.println(mochila.valor(8)); // 19
+        System.out.println(mochila.valor(4)); // 10
+
+        mochila.agregarObjeto(9, 2);
+        System.out.println(mochila.valor(8)); // 25
+    }
+}
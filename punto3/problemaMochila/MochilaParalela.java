@@ -0,0 +1,254 @@
+package punto3.problemaMochila;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mochila 0/1 en varios núcleos, de dos formas:
+ *
+ * --- UNA INSTANCIA GRANDE (knapsackParalelo) ---
+ * En la recurrencia de GfG_Tabulation, la fila i solo lee la fila i-1:
+ *   dp[i][j] = max(dp[i-1][j], val[i-1] + dp[i-1][j - wt[i-1]])
+ * así que, para un i fijo, todas las columnas j son independientes. Se guardan dos filas
+ * (anterior y actual, que se intercambian en cada objeto) y cada fila se reparte en tramos de
+ * columnas que se calculan en paralelo en un ForkJoinPool. A diferencia de knapsack1D, que
+ * recorre j de mayor a menor sobre una sola fila, aquí no hay dependencias dentro de la fila.
+ *
+ * El bucle de cada tramo no tiene saltos ni dependencias entre iteraciones (un max entre dos
+ * lecturas de la fila anterior), para que el JIT lo pueda vectorizar.
+ *
+ * --- MUCHAS INSTANCIAS CHICAS (knapsackLote) ---
+ * Resuelve miles de instancias independientes repartiéndolas entre los hilos del pool (acotado
+ * a la cantidad de núcleos en el pool común). Cada tarea hoja reserva una sola fila dp, del
+ * tamaño de la mayor capacidad de sus instancias, y la reutiliza entre ellas; la fila se
+ * libera al terminar la tarea, así que no queda memoria retenida por hilo después del lote.
+ *
+ * --- COMPLEJIDAD ---
+ *   - knapsackParalelo: trabajo O(n*W), O(n*W/P + n*log(W/UMBRAL_TRAMO)) con P hilos; espacio O(W).
+ *   - knapsackLote: trabajo O(suma de n_k*W_k); espacio O(max W_k) por tarea en curso.
+ */
+class MochilaParalela {
+
+    /** Columnas por tramo por debajo de las cuales un tramo se calcula sin dividir. */
+    static final int UMBRAL_TRAMO = 1 << 15;
+
+    /** Instancias por tarea por debajo de las cuales el lote se resuelve sin dividir. */
+    static final int UMBRAL_LOTE = 16;
+
+    /**
+     * Valor máximo repartiendo cada fila de la DP en el pool común.
+     *
+     * @see #knapsackParalelo(int, int[], int[], ForkJoinPool)
+     */
+    static long knapsackParalelo(int W, int[] val, int[] wt) {
+        return knapsackParalelo(W, val, wt, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Valor máximo con dos filas alternadas y cada fila repartida en tramos de columnas.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @param pool pool donde se calculan los tramos
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    static long knapsackParalelo(int W, int[] val, int[] wt, ForkJoinPool pool) {
+        if (val.length != wt.length)
+            throw new IllegalArgumentException("val y wt deben tener el mismo largo");
+        if (W < 0) return 0;
+        Filas filas = new Filas(val, wt, W);
+        pool.invoke(filas);
+        return filas.resultado;
+    }
+
+    /**
+     * Resuelve muchas instancias independientes en el pool común.
+     *
+     * @see #knapsackLote(int[], int[][], int[][], ForkJoinPool)
+     */
+    static long[] knapsackLote(int[] W, int[][] val, int[][] wt) {
+        return knapsackLote(W, val, wt, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Resuelve muchas instancias independientes repartiéndolas entre los hilos del pool.
+     * La instancia k tiene capacidad W[k], valores val[k] y pesos wt[k].
+     *
+     * @param W    Capacidades de cada instancia
+     * @param val  Valores de los objetos de cada instancia
+     * @param wt   Pesos de los objetos de cada instancia
+     * @param pool pool acotado donde se ejecutan las instancias
+     * @return     Valor máximo de cada instancia, en el mismo orden
+     */
+    static long[] knapsackLote(int[] W, int[][] val, int[][] wt, ForkJoinPool pool) {
+        if (val.length != W.length || wt.length != W.length)
+            throw new IllegalArgumentException("W, val y wt deben tener la misma cantidad de instancias");
+        long[] resultados = new long[W.length];
+        pool.invoke(new Lote(W, val, wt, resultados, 0, W.length));
+        return resultados;
+    }
+
+    // Una fila de la DP: actual[j] para j en [desde, hasta) a partir de la fila anterior
+    private static void calcularTramo(long[] anterior, long[] actual, int peso, long valor, int desde, int hasta) {
+        // Columnas donde el objeto no entra: se copia la fila anterior
+        int corte = Math.max(desde, Math.min(peso, hasta));
+        if (corte > desde) System.arraycopy(anterior, desde, actual, desde, corte - desde);
+        for (int j = corte; j < hasta; j++) {
+            actual[j] = Math.max(anterior[j], anterior[j - peso] + valor);
+        }
+    }
+
+    /** Recorre los objetos en orden; cada fila se divide en tramos que se calculan en paralelo. */
+    private static final class Filas extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] val, wt;
+        private final int W;
+        long resultado;
+
+        Filas(int[] val, int[] wt, int W) {
+            this.val = val;
+            this.wt = wt;
+            this.W = W;
+        }
+
+        @Override
+        protected void compute() {
+            long[] anterior = new long[W + 1];
+            long[] actual = new long[W + 1];
+            for (int i = 0; i < wt.length; i++) {
+                if (wt[i] > W) continue; // la fila quedaría igual a la anterior
+                new Tramo(anterior, actual, wt[i], val[i], 0, W + 1).invoke();
+                long[] t = anterior;
+                anterior = actual;
+                actual = t;
+            }
+            resultado = anterior[W];
+        }
+    }
+
+    /** Columnas [desde, hasta) de una fila. */
+    private static final class Tramo extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] anterior, actual;
+        private final int peso;
+        private final long valor;
+        private final int desde, hasta;
+
+        Tramo(long[] anterior, long[] actual, int peso, long valor, int desde, int hasta) {
+            this.anterior = anterior;
+            this.actual = actual;
+            this.peso = peso;
+            this.valor = valor;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_TRAMO) {
+                calcularTramo(anterior, actual, peso, valor, desde, hasta);
+                return;
+            }
+            int mid = (desde + hasta) >>> 1;
+            invokeAll(new Tramo(anterior, actual, peso, valor, desde, mid),
+                    new Tramo(anterior, actual, peso, valor, mid, hasta));
+        }
+    }
+
+    /** Instancias [desde, hasta) del lote. */
+    private static final class Lote extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] W;
+        private final int[][] val, wt;
+        private final long[] resultados;
+        private final int desde, hasta;
+
+        Lote(int[] W, int[][] val, int[][] wt, long[] resultados, int desde, int hasta) {
+            this.W = W;
+            this.val = val;
+            this.wt = wt;
+            this.resultados = resultados;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde <= UMBRAL_LOTE) {
+                // Una fila para todas las instancias de la hoja
+                int maxW = -1;
+                for (int k = desde; k < hasta; k++) {
+                    maxW = Math.max(maxW, W[k]);
+                }
+                long[] dp = new long[maxW + 1];
+                for (int k = desde; k < hasta; k++) {
+                    resultados[k] = resolverEnFila(W[k], val[k], wt[k], dp);
+                }
+                return;
+            }
+            int mid = (desde + hasta) >>> 1;
+            invokeAll(new Lote(W, val, wt, resultados, desde, mid),
+                    new Lote(W, val, wt, resultados, mid, hasta));
+        }
+    }
+
+    // knapsack1D sobre una fila reutilizada (dp.length > W)
+    private static long resolverEnFila(int W, int[] val, int[] wt, long[] dp) {
+        if (W < 0) return 0;
+        Arrays.fill(dp, 0, W + 1, 0);
+        for (int i = 0; i < wt.length; i++) {
+            int peso = wt[i];
+            long valor = val[i];
+            for (int j = W; j >= peso; j--) {
+                dp[j] = Math.max(dp[j], dp[j - peso] + valor);
+            }
+        }
+        return dp[W];
+    }
+
+    /** Tiempos de knapsackParalelo con 1, 2, 4, ... hilos sobre una instancia aleatoria de n objetos. */
+    static void medirEscalamiento(int n, int W) {
+        Random random = new Random(42);
+        int[] val = new int[n], wt = new int[n];
+        for (int i = 0; i < n; i++) {
+            val[i] = 1 + random.nextInt(1000);
+            wt[i] = 1 + random.nextInt(Math.max(1, W / 10));
+        }
+        long esperado = GfG_Tabulation.knapsack1D(W, val, wt);
+
+        for (int hilos = 1; hilos <= 32; hilos *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            knapsackParalelo(W, val, wt, pool); // calentamiento
+            long inicio = System.nanoTime();
+            long resultado = knapsackParalelo(W, val, wt, pool);
+            long ms = (System.nanoTime() - inicio) / 1_000_000;
+            pool.shutdown();
+            System.out.println(hilos + " hilos: " + ms + " ms" + (resultado == esperado ? "" : " DISTINTO"));
+        }
+    }
+
+    /**
+     * Ejemplo de uso: el caso de GfG_Tabulation en paralelo y como lote de instancias.
+     * Escalamiento opcional: java punto3.problemaMochila.MochilaParalela <n> <W>
+     */
+    public static void main(String[] args) {
+        int[] val = { 2, 5, 10, 14, 15 };
+        int[] wt = { 1, 3, 4, 5, 7 };
+        System.out.println(knapsackParalelo(8, val, wt)); // 19
+
+        int[] capacidades = { 8, 4, 0, 12 };
+        int[][] valores = { val, val, val, val };
+        int[][] pesos = { wt, wt, wt, wt };
+        System.out.println(Arrays.toString(knapsackLote(capacidades, valores, pesos))); // [19, 10, 0, 29]
+
+        if (args.length > 1) {
+            medirEscalamiento(Integer.parseInt(args[0]), Integer.parseInt(args[1]));
+        }
+    }
+}
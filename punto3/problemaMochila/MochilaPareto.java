@@ -0,0 +1,183 @@
+package punto3.problemaMochila;
+
+import java.util.Arrays;
+
+/**
+ * Resolución de la Mochila 0/1 con listas de dominancia (frontera de Pareto), pensada para
+ * instancias con capacidades enormes (por ejemplo pesos en gramos y W de miles de millones)
+ * donde las tablas de GfG_Tabulation y GfG_Memoization, que crecen con W, no son viables.
+ *
+ * --- IDEA ---
+ * En lugar de guardar dp[i][j] para cada capacidad j, para cada prefijo de objetos se guardan
+ * solo los pares (peso, valor) alcanzables que no están dominados: un par (p, x) domina a (q, y)
+ * si p <= q y x >= y. Ordenados por peso, los pares no dominados tienen valores estrictamente
+ * crecientes, así que la frontera se guarda en dos arreglos primitivos paralelos.
+ *
+ * --- PASO POR OBJETO ---
+ * Con el objeto (w, v), la nueva frontera sale de mezclar la frontera actual F con F desplazada
+ * (p + w, x + v), descartando los pares que superan W. Ambas listas ya están ordenadas por peso,
+ * así que es una mezcla lineal como la de merge sort, donde se descarta todo par cuyo valor no
+ * supere al último que se conservó.
+ *
+ * --- MITAD Y MITAD (meet in the middle) ---
+ * Para n chico (n <= MAX_N_MITADES) se arman por separado las fronteras de cada mitad de los
+ * objetos (a lo sumo 2^(n/2) pares cada una, ya ordenadas por la mezcla) y se combinan con un
+ * barrido de dos punteros: para cada par de la izquierda, de menor a mayor peso, el mejor
+ * compañero de la derecha es el más pesado que todavía entra, y ese índice solo retrocede.
+ *
+ * --- COMPLEJIDAD ---
+ *   - Tiempo: O(suma de los tamaños de las fronteras), independiente de W.
+ *     Con mitad y mitad, O(2^(n/2)).
+ *   - Espacio: O(tamaño máximo de la frontera).
+ */
+class MochilaPareto {
+
+    /** Cantidad de objetos hasta la que se usa mitad y mitad (2^20 pares por mitad como máximo). */
+    static final int MAX_N_MITADES = 40;
+
+    /**
+     * Valor máximo de la mochila 0/1; elige automáticamente entre mitad y mitad y la frontera completa.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos (no negativos)
+     * @param wt   Pesos de los objetos (no negativos)
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    static long knapsack(long W, int[] val, int[] wt) {
+        if (val.length != wt.length)
+            throw new IllegalArgumentException("val y wt deben tener el mismo largo");
+        if (W < 0) return 0;
+        return wt.length <= MAX_N_MITADES ? knapsackMitades(W, val, wt) : knapsackFrontera(W, val, wt);
+    }
+
+    /**
+     * Valor máximo construyendo la frontera de Pareto objeto por objeto.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    static long knapsackFrontera(long W, int[] val, int[] wt) {
+        Frontera f = frontera(W, val, wt, 0, wt.length);
+        // Valores crecientes: el último par es el de mayor valor
+        return f.valor[f.tam - 1];
+    }
+
+    /**
+     * Valor máximo combinando las fronteras de las dos mitades de los objetos.
+     *
+     * @param W    Capacidad máxima de la mochila
+     * @param val  Valores de los objetos
+     * @param wt   Pesos de los objetos
+     * @return     Valor máximo que se puede obtener sin exceder la capacidad
+     */
+    static long knapsackMitades(long W, int[] val, int[] wt) {
+        int mid = wt.length / 2;
+        Frontera izq = frontera(W, val, wt, 0, mid);
+        Frontera der = frontera(W, val, wt, mid, wt.length);
+
+        long mejor = 0;
+        int j = der.tam - 1;
+        for (int i = 0; i < izq.tam; i++) {
+            // A mayor peso a la izquierda, menos capacidad queda para la derecha
+            while (j >= 0 && der.peso[j] > W - izq.peso[i]) j--;
+            if (j < 0) break;
+            mejor = Math.max(mejor, izq.valor[i] + der.valor[j]);
+        }
+        return mejor;
+    }
+
+    // Frontera de los objetos [lo, hi) con peso <= W, empezando por el par vacío (0, 0)
+    private static Frontera frontera(long W, int[] val, int[] wt, int lo, int hi) {
+        Frontera actual = new Frontera(16);
+        Frontera siguiente = new Frontera(16);
+        actual.agregar(0, 0);
+        for (int i = lo; i < hi; i++) {
+            if (wt[i] > W) continue; // nunca entra
+            mezclar(actual, wt[i], val[i], W, siguiente);
+            Frontera t = actual;
+            actual = siguiente;
+            siguiente = t;
+        }
+        return actual;
+    }
+
+    // salida = pares no dominados de F ∪ (F + (w, v)), con peso <= W
+    private static void mezclar(Frontera f, long w, long v, long W, Frontera salida) {
+        // Cantidad de pares desplazados que siguen entrando (los pesos son crecientes)
+        int nd = 0;
+        while (nd < f.tam && f.peso[nd] <= W - w) nd++;
+
+        salida.tam = 0;
+        salida.reservar(f.tam + nd);
+        long ultimo = -1; // valor del último par conservado
+        int i = 0, j = 0;
+        while (i < f.tam || j < nd) {
+            long p, x;
+            // Elegir el par de menor peso; en empate, el de mayor valor primero
+            if (j >= nd || (i < f.tam && (f.peso[i] < f.peso[j] + w
+                    || (f.peso[i] == f.peso[j] + w && f.valor[i] >= f.valor[j] + v)))) {
+                p = f.peso[i];
+                x = f.valor[i];
+                i++;
+            } else {
+                p = f.peso[j] + w;
+                x = f.valor[j] + v;
+                j++;
+            }
+            // Si no mejora el valor, lo domina un par más liviano (o igual de pesado) ya guardado
+            if (x > ultimo) {
+                salida.agregar(p, x);
+                ultimo = x;
+            }
+        }
+    }
+
+    /** Pares (peso, valor) ordenados por peso, con valores estrictamente crecientes. */
+    private static final class Frontera {
+        long[] peso;
+        long[] valor;
+        int tam;
+
+        Frontera(int capacidad) {
+            peso = new long[capacidad];
+            valor = new long[capacidad];
+        }
+
+        void reservar(int capacidad) {
+            if (capacidad > peso.length) {
+                int nueva = Math.max(capacidad, peso.length * 2);
+                peso = new long[nueva];
+                valor = new long[nueva];
+            }
+        }
+
+        void agregar(long p, long x) {
+            if (tam == peso.length) {
+                peso = Arrays.copyOf(peso, tam * 2);
+                valor = Arrays.copyOf(valor, tam * 2);
+            }
+            peso[tam] = p;
+            valor[tam] = x;
+            tam++;
+        }
+    }
+
+    /**
+     * Ejemplo de uso: el mismo caso de GfG_Tabulation y una versión con pesos en gramos
+     * y capacidad de miles de millones, donde una tabla de W+1 columnas no es viable.
+     */
+    public static void main(String[] args) {
+        int[] val = { 2, 5, 10, 14, 15 };
+        int[] wt = { 1, 3, 4, 5, 7 };
+        System.out.println(knapsack(8, val, wt)); // 19
+
+        int[] gramos = new int[wt.length];
+        for (int i = 0; i < wt.length; i++) {
+            gramos[i] = wt[i] * 250_000_000;
+        }
+        System.out.println(knapsack(2_000_000_000L, val, gramos)); // 19
+        System.out.println(knapsackFrontera(2_000_000_000L, val, gramos)); // 19
+    }
+}